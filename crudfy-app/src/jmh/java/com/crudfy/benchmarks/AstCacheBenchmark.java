@@ -0,0 +1,64 @@
+package com.crudfy.benchmarks;
+
+import com.crudfy.services.utils.AstCache;
+import com.github.javaparser.JavaParser;
+import com.github.javaparser.ast.type.Type;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+/**
+ * Field types of the Response, Resource and Entity classes of an entity, parsed with a new JavaParser each time,
+ * as the domain builder used to, or cloned from the AstCache.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class AstCacheBenchmark {
+
+    @Param({"cached", "uncached"})
+    private String lookup;
+
+    private List<String> types;
+    private Function<String, Type> resolver;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        types = new ArrayList<>();
+        for (String suffix : new String[]{"Response", "Resource", ""}) {
+            for (String type : BenchmarkSpecs.FIELD_TYPES) {
+                types.add(type);
+            }
+            types.add("Address" + suffix);
+            types.add("List<Phone" + suffix + ">");
+        }
+
+        Function<String, Type> parser = type -> new JavaParser().parseType(type).getResult().get();
+        resolver = "cached".equals(lookup) ? new AstCache<>(2048, parser)::get : parser;
+    }
+
+    @Benchmark
+    public void getTypes(Blackhole blackhole) {
+        for (String type : types) {
+            blackhole.consume(resolver.apply(type));
+        }
+    }
+}
@@ -0,0 +1,47 @@
+package com.crudfy.benchmarks;
+
+import com.crudfy.domains.resources.ComponentResource;
+import com.crudfy.domains.resources.Database;
+import com.crudfy.domains.resources.Entity;
+import com.crudfy.domains.resources.Field;
+import com.crudfy.domains.resources.Structure;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Synthetic specs shared by the benchmarks.
+ */
+final class BenchmarkSpecs {
+
+    static final String[] FIELD_TYPES = {
+            "String", "Long", "Integer", "LocalDate", "LocalDateTime", "Boolean", "List<String>", "Map<String, List<Long>>"
+    };
+
+    private BenchmarkSpecs() {
+    }
+
+    static ComponentResource resource(String path, int entityCount, int fieldsPerEntity, Structure structure, Database database) {
+        List<Entity> entities = new ArrayList<>(entityCount);
+        for (int entity = 0; entity < entityCount; entity++) {
+            entities.add(new Entity("entity" + entity, fields(fieldsPerEntity)));
+        }
+
+        ComponentResource resource = new ComponentResource();
+        resource.setPath(path);
+        resource.setProjectName("bench");
+        resource.setProjectStructure(structure);
+        resource.setDatabase(database);
+        resource.setEntities(entities);
+        return resource;
+    }
+
+    static List<Field> fields(int fieldsPerEntity) {
+        List<Field> fields = new ArrayList<>(fieldsPerEntity);
+        fields.add(new Field("id", "String", true, false));
+        for (int field = 1; field < fieldsPerEntity; field++) {
+            fields.add(new Field("field" + field, FIELD_TYPES[field % FIELD_TYPES.length], false, false));
+        }
+        return fields;
+    }
+}
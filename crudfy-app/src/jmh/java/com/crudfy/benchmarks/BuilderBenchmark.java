@@ -0,0 +1,114 @@
+package com.crudfy.benchmarks;
+
+import com.crudfy.domains.resources.ComponentResource;
+import com.crudfy.domains.resources.Database;
+import com.crudfy.domains.resources.Entity;
+import com.crudfy.domains.resources.Field;
+import com.crudfy.domains.resources.Structure;
+import com.crudfy.services.builders.ControllerBuilder;
+import com.crudfy.services.builders.DomainBuilder;
+import com.crudfy.services.builders.GenerationContext;
+import com.crudfy.services.builders.ServiceBuilder;
+import com.crudfy.services.output.DryRunOutputSink;
+import com.crudfy.services.templates.TemplateBuilder;
+import com.crudfy.services.utils.EntityNames;
+import com.crudfy.services.utils.NameUtils;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of building and printing the classes of a single entity, without touching the disk. The render* benchmarks
+ * produce the same sources with the template engine.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class BuilderBenchmark {
+
+    @Param({"5", "20", "100"})
+    private int fieldsPerEntity;
+
+    @Param({"LAYER", "DOMAIN"})
+    private Structure structure;
+
+    @Param({"MYSQL", "MONGODB", "ELASTICSEARCH"})
+    private Database database;
+
+    private DomainBuilder domainBuilder;
+    private ControllerBuilder controllerBuilder;
+    private ServiceBuilder serviceBuilder;
+    private TemplateBuilder templateBuilder;
+
+    private DryRunOutputSink sink;
+    private GenerationContext context;
+    private EntityNames names;
+    private Entity entity;
+    private List<Field> fields;
+
+    @Setup(Level.Trial)
+    public void setUp(GeneratorState generator) {
+        domainBuilder = generator.getBean(DomainBuilder.class);
+        controllerBuilder = generator.getBean(ControllerBuilder.class);
+        serviceBuilder = generator.getBean(ServiceBuilder.class);
+        templateBuilder = generator.getBean(TemplateBuilder.class);
+
+        ComponentResource resource = BenchmarkSpecs.resource("/bench", 1, fieldsPerEntity, structure, database);
+        sink = new DryRunOutputSink();
+        context = new GenerationContext(resource, resource.getPath(), sink, generator.getBean(NameUtils.class));
+        names = context.getEntityNames(resource.getEntities().get(0).getName());
+        entity = resource.getEntities().get(0);
+        fields = entity.getFields();
+    }
+
+    @Benchmark
+    public long buildEntity() {
+        domainBuilder.buildEntity(context, names, fields);
+        return sink.getBytesWritten();
+    }
+
+    @Benchmark
+    public long buildController() {
+        controllerBuilder.buildController(context, names, entity);
+        return sink.getBytesWritten();
+    }
+
+    @Benchmark
+    public long buildService() {
+        serviceBuilder.buildService(context, names, entity);
+        return sink.getBytesWritten();
+    }
+
+    @Benchmark
+    public long renderEntity() {
+        templateBuilder.buildEntity(context, names, fields);
+        return sink.getBytesWritten();
+    }
+
+    @Benchmark
+    public long renderController() {
+        templateBuilder.buildController(context, names, entity);
+        return sink.getBytesWritten();
+    }
+
+    @Benchmark
+    public long renderService() {
+        templateBuilder.buildService(context, names, entity);
+        return sink.getBytesWritten();
+    }
+}
@@ -0,0 +1,97 @@
+package com.crudfy.benchmarks;
+
+import com.crudfy.domains.resources.ComponentResource;
+import com.crudfy.domains.resources.Database;
+import com.crudfy.domains.resources.GenerationEngine;
+import com.crudfy.domains.resources.Structure;
+import com.crudfy.domains.responses.GenerationReport;
+import com.crudfy.services.CrudService;
+import com.crudfy.services.output.DryRunOutputSink;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.util.FileSystemUtils;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * End to end generation. createProject writes on the local disk, a new project every invocation so the manifest
+ * never skips files. generateDryRun renders the same project without any I/O.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 3)
+@Fork(1)
+public class CreateProjectBenchmark {
+
+    @Param({"1", "100", "1000", "10000"})
+    private int entityCount;
+
+    @Param({"5", "20"})
+    private int fieldsPerEntity;
+
+    @Param({"LAYER", "DOMAIN"})
+    private Structure structure;
+
+    @Param({"MYSQL", "MONGODB", "ELASTICSEARCH"})
+    private Database database;
+
+    @Param({"AST", "TEMPLATE"})
+    private GenerationEngine engine;
+
+    private CrudService crudService;
+    private Path outputDir;
+    private ComponentResource resource;
+    private int invocation;
+
+    @Setup(Level.Trial)
+    public void setUp(GeneratorState generator) throws IOException {
+        crudService = generator.getBean(CrudService.class);
+        outputDir = Files.createTempDirectory("crudfy-bench");
+    }
+
+    @Setup(Level.Invocation)
+    public void prepareResource() {
+        resource = BenchmarkSpecs.resource(outputDir.resolve("run" + invocation++).toString(),
+                entityCount, fieldsPerEntity, structure, database);
+        resource.setEngine(engine);
+    }
+
+    @TearDown(Level.Iteration)
+    public void cleanOutput() throws IOException {
+        FileSystemUtils.deleteRecursively(outputDir);
+        Files.createDirectories(outputDir);
+    }
+
+    @TearDown(Level.Trial)
+    public void removeOutput() throws IOException {
+        FileSystemUtils.deleteRecursively(outputDir);
+    }
+
+    @Benchmark
+    public GenerationReport createProject() {
+        return crudService.createProject(resource);
+    }
+
+    @Benchmark
+    public long generateDryRun() {
+        DryRunOutputSink sink = new DryRunOutputSink();
+        crudService.generateTo(resource, resource.getPath(), sink);
+        return sink.getBytesWritten();
+    }
+}
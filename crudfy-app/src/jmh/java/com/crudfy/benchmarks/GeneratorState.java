@@ -0,0 +1,37 @@
+package com.crudfy.benchmarks;
+
+import com.crudfy.CrudfyApplication;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+/**
+ * Spring context started once per trial, so the benchmarks use the same beans as the application.
+ */
+@State(Scope.Benchmark)
+public class GeneratorState {
+
+    private ConfigurableApplicationContext applicationContext;
+
+    @Setup(Level.Trial)
+    public void startContext() {
+        applicationContext = new SpringApplicationBuilder(CrudfyApplication.class)
+                .web(WebApplicationType.NONE)
+                .logStartupInfo(false)
+                .run();
+    }
+
+    @TearDown(Level.Trial)
+    public void stopContext() {
+        applicationContext.close();
+    }
+
+    <T> T getBean(Class<T> type) {
+        return applicationContext.getBean(type);
+    }
+}
@@ -0,0 +1,43 @@
+package com.crudfy.benchmarks;
+
+import com.crudfy.services.utils.ImportsMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Import resolution for the field types of the synthetic specs.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ImportsMapperBenchmark {
+
+    private ImportsMapper mapper;
+
+    @Setup(Level.Trial)
+    public void setUp(GeneratorState generator) {
+        mapper = generator.getBean(ImportsMapper.class);
+    }
+
+    @Benchmark
+    public void getImports(Blackhole blackhole) {
+        for (String type : BenchmarkSpecs.FIELD_TYPES) {
+            blackhole.consume(mapper.getImports(type));
+        }
+    }
+}
@@ -3,10 +3,17 @@ package com.crudfy;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
 
+import java.util.Arrays;
+
 @SpringBootApplication
 public class CrudfyApplication {
 
 	public static void main(String[] args) {
+		//java -jar crudfy.jar generate <spec.json> [output path] runs the command-line generation
+		if (args.length > 0 && "generate".equals(args[0])) {
+			CrudfyCli.main(Arrays.copyOfRange(args, 1, args.length));
+			return;
+		}
 		SpringApplication.run(CrudfyApplication.class, args);
 	}
 
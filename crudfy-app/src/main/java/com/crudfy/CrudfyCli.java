@@ -0,0 +1,68 @@
+package com.crudfy;
+
+import com.crudfy.domains.exceptions.ResourceValidationException;
+import com.crudfy.domains.resources.ComponentResource;
+import com.crudfy.domains.responses.GenerationReport;
+import com.crudfy.services.CrudService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.boot.Banner;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * Generates a project from a ComponentResource JSON file and exits, without starting the web server.
+ * Usage: crudfy-cli <spec.json> [output path] [--property=value ...]
+ */
+public class CrudfyCli {
+
+	public static void main(String[] args) {
+		System.exit(run(args));
+	}
+
+	static int run(String[] args) {
+		//Options such as --crudfy.generation.parallel=true are left to Spring
+		List<String> parameters = Arrays.stream(args)
+				.filter(arg -> !arg.startsWith("--"))
+				.collect(Collectors.toList());
+		if (parameters.isEmpty() || parameters.size() > 2) {
+			System.err.println("Uso: crudfy-cli <spec.json> [caminho de saida] [--propriedade=valor ...]");
+			return 2;
+		}
+
+		ConfigurableApplicationContext context = new SpringApplicationBuilder(CrudfyApplication.class)
+				.web(WebApplicationType.NONE)
+				.lazyInitialization(true)
+				.bannerMode(Banner.Mode.OFF)
+				.logStartupInfo(false)
+				.run(args);
+		try {
+			ComponentResource resource = context.getBean(ObjectMapper.class).readValue(new File(parameters.get(0)), ComponentResource.class);
+			if (parameters.size() == 2) {
+				resource.setPath(parameters.get(1));
+			}
+			GenerationReport report = context.getBean(CrudService.class).createProject(resource);
+			System.out.printf("%s (%s escritos, %s inalterados, %s removidos)%n", report.getMessage(),
+					report.getFilesWritten(), report.getFilesSkipped(), report.getFilesDeleted());
+			return 0;
+		} catch (ResourceValidationException e) {
+			System.err.printf("Entrada invalida: %s%n", e.getMessage());
+			return 1;
+		} catch (IOException e) {
+			System.err.printf("Erro na leitura da especificacao %s: %s%n", parameters.get(0), e.getMessage());
+			return 1;
+		} catch (RuntimeException e) {
+			//Exceptions without a message, such as NullPointerException, are reported by their type
+			System.err.printf("Ocorreu um erro inesperado ao criar o projeto: %s%n", e.getMessage() != null ? e.getMessage() : e);
+			return 1;
+		} finally {
+			context.close();
+		}
+	}
+}
@@ -0,0 +1,137 @@
+package com.crudfy.controllers;
+
+import com.crudfy.domains.exceptions.JobQueueFullException;
+import com.crudfy.domains.exceptions.ResourceValidationException;
+import com.crudfy.domains.resources.ComponentResource;
+import com.crudfy.domains.responses.ApiError;
+import com.crudfy.domains.responses.GenerationJob;
+import com.crudfy.services.BatchGenerationService;
+import com.crudfy.services.CrudService;
+import com.crudfy.services.GenerationJobService;
+import com.crudfy.services.input.ComponentResourceStream;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Controller;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.InputStream;
+import java.util.List;
+import java.util.Optional;
+
+@Controller
+@RequestMapping(value = "/crud")
+public class CrudController {
+
+    @Autowired
+    private CrudService service;
+
+    @Autowired
+    private GenerationJobService jobService;
+
+    @Autowired
+    private BatchGenerationService batchService;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @PostMapping
+    public ResponseEntity create(@RequestBody ComponentResource resource,
+                                 @RequestParam(defaultValue = "false") boolean verify) {
+        try {
+            return new ResponseEntity<>(service.createProject(resource, verify), HttpStatus.OK);
+        } catch (ResourceValidationException e) {
+            return new ResponseEntity<>(new ApiError(e.getMessage(), "Entrada invalida"),
+                    HttpStatus.BAD_REQUEST);
+        } catch (Exception e) {
+            return new ResponseEntity<>(
+                    new ApiError(String.format("Ocorreu um erro inesperado ao criar o projeto: %s", e.getMessage()), e.getStackTrace().toString()),
+                    HttpStatus.INTERNAL_SERVER_ERROR);
+        }
+    }
+
+    @PostMapping("/preview")
+    public ResponseEntity preview(@RequestBody ComponentResource resource,
+                                  @RequestParam(defaultValue = "false") boolean content) {
+        try {
+            return new ResponseEntity<>(service.preview(resource, content), HttpStatus.OK);
+        } catch (ResourceValidationException e) {
+            return new ResponseEntity<>(new ApiError(e.getMessage(), "Entrada invalida"),
+                    HttpStatus.BAD_REQUEST);
+        }
+    }
+
+    @PostMapping("/batch")
+    public ResponseEntity createBatch(@RequestBody List<ComponentResource> resources) {
+        try {
+            return new ResponseEntity<>(batchService.createProjects(resources), HttpStatus.OK);
+        } catch (ResourceValidationException e) {
+            return new ResponseEntity<>(new ApiError(e.getMessage(), "Entrada invalida"),
+                    HttpStatus.BAD_REQUEST);
+        }
+    }
+
+    @PostMapping(value = "/stream", consumes = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity createFromStream(InputStream body) {
+        try (ComponentResourceStream stream = ComponentResourceStream.open(objectMapper, body)) {
+            return new ResponseEntity<>(service.createProject(stream), HttpStatus.OK);
+        } catch (ResourceValidationException e) {
+            return new ResponseEntity<>(new ApiError(e.getMessage(), "Entrada invalida"),
+                    HttpStatus.BAD_REQUEST);
+        } catch (JsonProcessingException e) {
+            return new ResponseEntity<>(new ApiError(e.getOriginalMessage(), "JSON invalido"),
+                    HttpStatus.BAD_REQUEST);
+        } catch (Exception e) {
+            return new ResponseEntity<>(
+                    new ApiError(String.format("Ocorreu um erro inesperado ao criar o projeto: %s", e.getMessage()), e.getStackTrace().toString()),
+                    HttpStatus.INTERNAL_SERVER_ERROR);
+        }
+    }
+
+    @PostMapping("/zip")
+    public ResponseEntity createArchive(@RequestBody ComponentResource resource) {
+        try {
+            service.verifyResource(resource);
+        } catch (ResourceValidationException e) {
+            return new ResponseEntity<>(new ApiError(e.getMessage(), "Entrada invalida"),
+                    HttpStatus.BAD_REQUEST);
+        }
+        StreamingResponseBody body = output -> service.createProjectArchive(resource, output);
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType("application/zip"))
+                .header(HttpHeaders.CONTENT_DISPOSITION, String.format("attachment; filename=\"%s.zip\"", resource.getProjectName()))
+                .body(body);
+    }
+
+    @PostMapping("/jobs")
+    public ResponseEntity submit(@RequestBody ComponentResource resource) {
+        try {
+            return new ResponseEntity<>(jobService.submit(resource), HttpStatus.ACCEPTED);
+        } catch (ResourceValidationException e) {
+            return new ResponseEntity<>(new ApiError(e.getMessage(), "Entrada invalida"),
+                    HttpStatus.BAD_REQUEST);
+        } catch (JobQueueFullException e) {
+            return new ResponseEntity<>(new ApiError(e.getMessage(), "Muitas requisicoes"),
+                    HttpStatus.TOO_MANY_REQUESTS);
+        }
+    }
+
+    @GetMapping("/jobs/{id}")
+    public ResponseEntity findJob(@PathVariable String id) {
+        Optional<GenerationJob> job = jobService.find(id);
+        return job.isPresent()
+                ? new ResponseEntity<>(job.get(), HttpStatus.OK)
+                : new ResponseEntity<>(new ApiError(String.format("Job %s nao encontrado", id), "Nao encontrado"),
+                        HttpStatus.NOT_FOUND);
+    }
+}
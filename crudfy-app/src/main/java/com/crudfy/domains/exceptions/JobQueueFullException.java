@@ -0,0 +1,7 @@
+package com.crudfy.domains.exceptions;
+
+public class JobQueueFullException extends RuntimeException{
+    public JobQueueFullException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,16 @@
+package com.crudfy.domains.responses;
+
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+public class BatchProjectResult {
+    private String projectName;
+    private String path;
+    private JobStatus status;
+    private String message;
+    private String error;
+    private GenerationReport report;
+    private long runningMillis;
+}
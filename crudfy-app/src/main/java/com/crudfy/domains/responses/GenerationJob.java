@@ -0,0 +1,23 @@
+package com.crudfy.domains.responses;
+
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+
+@Data
+@NoArgsConstructor
+public class GenerationJob {
+    private volatile String id;
+    private volatile String projectName;
+    private volatile String path;
+    private volatile JobStatus status;
+    private volatile String message;
+    private volatile String error;
+    private volatile GenerationReport report;
+    private volatile Instant submittedAt;
+    private volatile Instant startedAt;
+    private volatile Instant finishedAt;
+    private volatile Long queuedMillis;
+    private volatile Long runningMillis;
+}
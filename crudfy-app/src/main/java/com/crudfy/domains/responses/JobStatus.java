@@ -0,0 +1,8 @@
+package com.crudfy.domains.responses;
+
+public enum JobStatus {
+    QUEUED,
+    RUNNING,
+    DONE,
+    FAILED
+}
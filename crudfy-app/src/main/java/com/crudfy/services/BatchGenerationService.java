@@ -0,0 +1,132 @@
+package com.crudfy.services;
+
+import com.crudfy.domains.exceptions.ResourceValidationException;
+import com.crudfy.domains.resources.ComponentResource;
+import com.crudfy.domains.responses.BatchProjectResult;
+import com.crudfy.domains.responses.GenerationReport;
+import com.crudfy.domains.responses.JobStatus;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.util.CollectionUtils;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import java.nio.file.InvalidPathException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Generates many projects in one request. All batches share the same workers, so concurrent batches cannot use
+ * more threads than configured.
+ */
+@Service
+public class BatchGenerationService {
+
+    @Autowired
+    private CrudService crudService;
+
+    @Value("${crudfy.batch.workers:4}")
+    private int workers;
+
+    @Value("${crudfy.batch.max-projects:100}")
+    private int maxProjects;
+
+    private ExecutorService executor;
+
+    @PostConstruct
+    private void createExecutor() {
+        AtomicInteger threadCount = new AtomicInteger();
+        executor = Executors.newFixedThreadPool(workers,
+                runnable -> new Thread(runnable, "crudfy-batch-" + threadCount.incrementAndGet()));
+    }
+
+    @PreDestroy
+    private void shutdownExecutor() {
+        executor.shutdown();
+    }
+
+    /**
+     * Results are in the order of the projects. A project that fails does not stop the others.
+     */
+    public List<BatchProjectResult> createProjects(List<ComponentResource> resources) {
+        verifyBatch(resources);
+
+        List<Future<BatchProjectResult>> generations = new ArrayList<>();
+        for (ComponentResource resource : resources) {
+            generations.add(executor.submit(() -> run(resource)));
+        }
+
+        List<BatchProjectResult> results = new ArrayList<>();
+        try {
+            for (Future<BatchProjectResult> generation : generations) {
+                results.add(generation.get());
+            }
+        } catch (InterruptedException e) {
+            generations.forEach(generation -> generation.cancel(true));
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("Geração do lote interrompida", e);
+        } catch (ExecutionException e) {
+            //run() catches every failure of its project
+            throw new IllegalStateException(e.getCause());
+        }
+        return results;
+    }
+
+    private void verifyBatch(List<ComponentResource> resources) {
+        if (CollectionUtils.isEmpty(resources)) {
+            throw new ResourceValidationException("É necessário ao menos um projeto no lote");
+        }
+        if (resources.size() > maxProjects) {
+            throw new ResourceValidationException(String.format("O lote pode ter no máximo %s projetos", maxProjects));
+        }
+        //Normalized, /out/a, /out/a/ and /out/./a are the same directory
+        Set<Path> paths = new HashSet<>();
+        for (ComponentResource resource : resources) {
+            if (resource.getPath() != null && !paths.add(normalize(resource.getPath()))) {
+                throw new ResourceValidationException(String.format("Mais de um projeto do lote usa o caminho %s", resource.getPath()));
+            }
+        }
+    }
+
+    private Path normalize(String path) {
+        try {
+            return Paths.get(path).toAbsolutePath().normalize();
+        } catch (InvalidPathException e) {
+            throw new ResourceValidationException(String.format("O caminho %s é inválido", path));
+        }
+    }
+
+    private BatchProjectResult run(ComponentResource resource) {
+        BatchProjectResult result = new BatchProjectResult();
+        result.setProjectName(resource.getProjectName());
+        result.setPath(resource.getPath());
+
+        long start = System.nanoTime();
+        try {
+            GenerationReport report = crudService.createProject(resource);
+            result.setMessage(report.getMessage());
+            result.setReport(report);
+            result.setStatus(JobStatus.DONE);
+        } catch (ResourceValidationException e) {
+            result.setMessage(e.getMessage());
+            result.setError("Entrada invalida");
+            result.setStatus(JobStatus.FAILED);
+        } catch (Exception e) {
+            result.setMessage(String.format("Ocorreu um erro inesperado ao criar o projeto: %s", e.getMessage()));
+            result.setError(e.getClass().getName());
+            result.setStatus(JobStatus.FAILED);
+        }
+        result.setRunningMillis((System.nanoTime() - start) / 1_000_000);
+        return result;
+    }
+}
@@ -0,0 +1,113 @@
+package com.crudfy.services;
+
+import com.crudfy.domains.exceptions.JobQueueFullException;
+import com.crudfy.domains.resources.ComponentResource;
+import com.crudfy.domains.responses.GenerationJob;
+import com.crudfy.domains.responses.GenerationReport;
+import com.crudfy.domains.responses.JobStatus;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+@Service
+public class GenerationJobService {
+
+    @Autowired
+    private CrudService crudService;
+
+    @Value("${crudfy.jobs.workers:2}")
+    private int workers;
+
+    @Value("${crudfy.jobs.queue-capacity:50}")
+    private int queueCapacity;
+
+    @Value("${crudfy.jobs.retention-minutes:60}")
+    private long retentionMinutes;
+
+    private final Map<String, GenerationJob> jobs = new ConcurrentHashMap<>();
+
+    private ThreadPoolExecutor executor;
+
+    @PostConstruct
+    private void createExecutor() {
+        AtomicInteger threadCount = new AtomicInteger();
+        executor = new ThreadPoolExecutor(workers, workers, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                runnable -> new Thread(runnable, "crudfy-job-" + threadCount.incrementAndGet()),
+                new ThreadPoolExecutor.AbortPolicy());
+    }
+
+    @PreDestroy
+    private void shutdownExecutor() {
+        executor.shutdown();
+    }
+
+    public GenerationJob submit(ComponentResource resource) {
+        crudService.verifyResource(resource);
+        removeExpiredJobs();
+
+        GenerationJob job = new GenerationJob();
+        job.setId(UUID.randomUUID().toString());
+        job.setProjectName(resource.getProjectName());
+        job.setPath(resource.getPath());
+        job.setStatus(JobStatus.QUEUED);
+        job.setSubmittedAt(Instant.now());
+        jobs.put(job.getId(), job);
+
+        try {
+            executor.execute(() -> run(job, resource));
+        } catch (RejectedExecutionException e) {
+            jobs.remove(job.getId());
+            throw new JobQueueFullException(String.format("A fila de geração está cheia (%s jobs aguardando)", queueCapacity));
+        }
+        return job;
+    }
+
+    public Optional<GenerationJob> find(String id) {
+        return Optional.ofNullable(jobs.get(id));
+    }
+
+    private void run(GenerationJob job, ComponentResource resource) {
+        Instant startedAt = Instant.now();
+        job.setStartedAt(startedAt);
+        job.setQueuedMillis(Duration.between(job.getSubmittedAt(), startedAt).toMillis());
+        job.setStatus(JobStatus.RUNNING);
+
+        JobStatus status;
+        try {
+            GenerationReport report = crudService.createProject(resource);
+            job.setMessage(report.getMessage());
+            job.setReport(report);
+            status = JobStatus.DONE;
+        } catch (Exception e) {
+            job.setMessage(String.format("Ocorreu um erro inesperado ao criar o projeto: %s", e.getMessage()));
+            job.setError(e.getClass().getName());
+            status = JobStatus.FAILED;
+        }
+
+        //Timings are filled before the final status so a finished job is always complete when polled
+        Instant finishedAt = Instant.now();
+        job.setFinishedAt(finishedAt);
+        job.setRunningMillis(Duration.between(startedAt, finishedAt).toMillis());
+        job.setStatus(status);
+    }
+
+    private void removeExpiredJobs() {
+        Instant limit = Instant.now().minus(Duration.ofMinutes(retentionMinutes));
+        jobs.values().removeIf(job -> job.getFinishedAt() != null && job.getFinishedAt().isBefore(limit));
+    }
+}
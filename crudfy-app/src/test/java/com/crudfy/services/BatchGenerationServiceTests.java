@@ -0,0 +1,71 @@
+package com.crudfy.services;
+
+import com.crudfy.domains.exceptions.ResourceValidationException;
+import com.crudfy.domains.resources.ComponentResource;
+import com.crudfy.domains.resources.Database;
+import com.crudfy.domains.resources.Entity;
+import com.crudfy.domains.resources.Field;
+import com.crudfy.domains.responses.BatchProjectResult;
+import com.crudfy.domains.responses.JobStatus;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@SpringBootTest
+class BatchGenerationServiceTests {
+
+	@Autowired
+	private BatchGenerationService service;
+
+	@TempDir
+	Path outputDir;
+
+	@Test
+	void everyProjectGetsItsOwnResult() {
+		List<ComponentResource> resources = new ArrayList<>();
+		for (Database database : Database.values()) {
+			resources.add(buildResource("service" + database.ordinal(), database, List.of(new Entity("order", List.of(
+					new Field("id", "String", true, false))))));
+		}
+		resources.add(buildResource("empty", Database.MYSQL, List.of()));
+
+		List<BatchProjectResult> results = service.createProjects(resources);
+
+		assertEquals(resources.size(), results.size());
+		for (int project = 0; project < Database.values().length; project++) {
+			assertEquals(JobStatus.DONE, results.get(project).getStatus());
+			assertTrue(Files.exists(outputDir.resolve("service" + project).resolve("pom.xml")));
+		}
+		assertEquals("empty", results.get(3).getProjectName());
+		assertEquals(JobStatus.FAILED, results.get(3).getStatus());
+	}
+
+	@Test
+	void projectsSharingAPathAreRejected() {
+		List<Entity> entities = List.of(new Entity("order", List.of(new Field("id", "String", true, false))));
+		ComponentResource first = buildResource("same", Database.MYSQL, entities);
+		ComponentResource second = buildResource("same", Database.MONGODB, entities);
+		second.setPath(outputDir + "/./same/");
+
+		assertThrows(ResourceValidationException.class, () -> service.createProjects(List.of(first, second)));
+	}
+
+	private ComponentResource buildResource(String projectName, Database database, List<Entity> entities) {
+		ComponentResource resource = new ComponentResource();
+		resource.setPath(outputDir.resolve(projectName).toString());
+		resource.setProjectName(projectName);
+		resource.setDatabase(database);
+		resource.setEntities(entities);
+		return resource;
+	}
+}
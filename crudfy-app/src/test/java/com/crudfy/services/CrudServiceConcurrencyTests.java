@@ -0,0 +1,137 @@
+package com.crudfy.services;
+
+import com.crudfy.domains.resources.ComponentResource;
+import com.crudfy.domains.resources.Entity;
+import com.crudfy.domains.resources.EntityCache;
+import com.crudfy.domains.resources.Field;
+import com.crudfy.services.output.InMemoryOutputSink;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@SpringBootTest(properties = "crudfy.generation.parallel=true")
+class CrudServiceConcurrencyTests {
+
+	private static final int PROJECTS = 8;
+	private static final int ENTITIES = 15;
+	private static final int FILES_PER_ENTITY = 7;
+
+	@Autowired
+	private CrudService service;
+
+	@Test
+	void concurrentGenerationsDoNotMixOutputs() throws Exception {
+		ExecutorService executor = Executors.newFixedThreadPool(PROJECTS);
+		CountDownLatch start = new CountDownLatch(1);
+		List<Future<?>> generations = new ArrayList<>();
+		List<InMemoryOutputSink> sinks = new ArrayList<>();
+		try {
+			for (int project = 0; project < PROJECTS; project++) {
+				ComponentResource resource = buildResource(project);
+				InMemoryOutputSink sink = new InMemoryOutputSink(resource.getPath());
+				sinks.add(sink);
+				generations.add(executor.submit(() -> {
+					start.await();
+					service.generateTo(resource, resource.getPath(), sink);
+					return null;
+				}));
+			}
+			start.countDown();
+			for (Future<?> generation : generations) {
+				generation.get();
+			}
+		} finally {
+			executor.shutdown();
+		}
+
+		for (int project = 0; project < PROJECTS; project++) {
+			assertOnlyOwnClasses(project, sinks.get(project));
+		}
+	}
+
+	@Test
+	void parallelGenerationMatchesSequentialGeneration() {
+		ComponentResource resource = buildResource(0);
+		//Every other entity is cached, so the order of the cache registrations of the main class is compared too
+		for (int entity = 0; entity < ENTITIES; entity += 2) {
+			resource.getEntities().get(entity).setCache(new EntityCache(100 + entity, 60));
+		}
+
+		Map<String, String> parallel = generate(resource);
+		//Without the pool the entities are generated one after the other
+		Object pool = ReflectionTestUtils.getField(service, "generationPool");
+		ReflectionTestUtils.setField(service, "generationPool", null);
+		Map<String, String> sequential;
+		try {
+			sequential = generate(resource);
+		} finally {
+			ReflectionTestUtils.setField(service, "generationPool", pool);
+		}
+
+		assertEquals(sequential.keySet(), parallel.keySet());
+		sequential.forEach((path, content) -> assertEquals(content, parallel.get(path), path));
+		assertTrue(parallel.values().stream().anyMatch(content -> content.contains("registerCustomCache")));
+	}
+
+	private Map<String, String> generate(ComponentResource resource) {
+		InMemoryOutputSink sink = new InMemoryOutputSink(resource.getPath());
+		service.generateTo(resource, resource.getPath(), sink);
+		Map<String, String> files = new TreeMap<>();
+		sink.getFiles().keySet().forEach(path -> files.put(path, sink.getContent(path)));
+		return files;
+	}
+
+	private void assertOnlyOwnClasses(int project, InMemoryOutputSink sink) {
+		List<String> sources = sink.getFiles().keySet().stream()
+				.filter(path -> path.endsWith(".java"))
+				.collect(Collectors.toList());
+		// Entity classes plus the main class
+		assertEquals(ENTITIES * FILES_PER_ENTITY + 1, sources.size());
+
+		for (String source : sources) {
+			String content = sink.getContent(source);
+			String className = source.substring(source.lastIndexOf('/') + 1).replace(".java", "");
+			assertTrue(content.contains("package com.proj" + project), source);
+			assertTrue(content.contains("class " + className) || content.contains("interface " + className), source);
+			for (int other = 0; other < PROJECTS; other++) {
+				if (other != project) {
+					assertFalse(content.contains("com.proj" + other + "."), source);
+					assertFalse(content.contains("P" + other + "e"), source);
+				}
+			}
+		}
+	}
+
+	private ComponentResource buildResource(int project) {
+		List<Entity> entities = new ArrayList<>();
+		for (int entity = 0; entity < ENTITIES; entity++) {
+			List<Field> fields = new ArrayList<>();
+			fields.add(new Field("id", "String", true, false));
+			fields.add(new Field("description", "String", false, false));
+			fields.add(new Field("tags", "List<String>", false, false));
+			fields.add(new Field("createdAt", "LocalDate", false, false));
+			entities.add(new Entity(String.format("p%se%s", project, entity), fields));
+		}
+
+		ComponentResource resource = new ComponentResource();
+		resource.setPath("/proj" + project);
+		resource.setProjectName("proj" + project);
+		resource.setEntities(entities);
+		return resource;
+	}
+}
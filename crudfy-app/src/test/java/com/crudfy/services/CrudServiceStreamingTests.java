@@ -0,0 +1,96 @@
+package com.crudfy.services;
+
+import com.crudfy.domains.exceptions.ResourceValidationException;
+import com.crudfy.domains.resources.ComponentResource;
+import com.crudfy.domains.resources.Database;
+import com.crudfy.domains.resources.Entity;
+import com.crudfy.domains.resources.Field;
+import com.crudfy.domains.resources.Structure;
+import com.crudfy.services.input.ComponentResourceStream;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+@SpringBootTest
+class CrudServiceStreamingTests {
+
+	@Autowired
+	private CrudService service;
+
+	@Autowired
+	private ObjectMapper objectMapper;
+
+	@TempDir
+	Path outputDir;
+
+	@Test
+	void streamedSpecGeneratesSameProjectAsBoundSpec() throws IOException {
+		ComponentResource bound = buildResource(outputDir.resolve("bound").toString());
+		service.createProject(bound);
+
+		ComponentResource streamed = buildResource(outputDir.resolve("streamed").toString());
+		try (ComponentResourceStream stream = ComponentResourceStream.open(objectMapper, toJson(streamed))) {
+			service.createProject(stream);
+		}
+
+		assertEquals(readTree(outputDir.resolve("bound")), readTree(outputDir.resolve("streamed")));
+	}
+
+	@Test
+	void projectFieldsAfterEntitiesAreRejected() {
+		String json = String.format("{\"projectName\":\"late\",\"entities\":[],\"path\":\"%s\"}", outputDir.resolve("late"));
+
+		assertThrows(ResourceValidationException.class, () ->
+				ComponentResourceStream.open(objectMapper, new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8))));
+	}
+
+	private ComponentResource buildResource(String path) {
+		List<Entity> entities = new ArrayList<>();
+		for (int entity = 0; entity < 10; entity++) {
+			List<Field> fields = new ArrayList<>();
+			fields.add(new Field("id", "String", true, false));
+			fields.add(new Field("tags", "List<String>", false, false));
+			fields.add(new Field("parent", "List<entity" + ((entity + 1) % 10) + ">", false, true));
+			entities.add(new Entity("entity" + entity, fields));
+		}
+
+		ComponentResource resource = new ComponentResource();
+		resource.setPath(path);
+		resource.setProjectName("streaming");
+		resource.setProjectStructure(Structure.DOMAIN);
+		resource.setDatabase(Database.MYSQL);
+		resource.setEntities(entities);
+		return resource;
+	}
+
+	private InputStream toJson(ComponentResource resource) throws IOException {
+		return new ByteArrayInputStream(objectMapper.writeValueAsBytes(resource));
+	}
+
+	private Map<String, String> readTree(Path root) throws IOException {
+		Map<String, String> files = new TreeMap<>();
+		try (Stream<Path> paths = Files.walk(root)) {
+			for (Path file : (Iterable<Path>) paths.filter(Files::isRegularFile)::iterator) {
+				files.put(root.relativize(file).toString(), Files.readString(file));
+			}
+		}
+		return files;
+	}
+}
@@ -0,0 +1,73 @@
+package com.crudfy.services;
+
+import com.crudfy.domains.resources.ComponentResource;
+import com.crudfy.domains.resources.Database;
+import com.crudfy.domains.resources.Entity;
+import com.crudfy.domains.resources.Field;
+import com.crudfy.domains.resources.Structure;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+
+@SpringBootTest
+class GenerationMetricsTests {
+
+	@Autowired
+	private CrudService service;
+
+	@Autowired
+	private MeterRegistry registry;
+
+	@TempDir
+	Path outputDir;
+
+	@Test
+	void generationIsTaggedByStructureAndDatabase() {
+		ComponentResource resource = new ComponentResource();
+		resource.setPath(outputDir.resolve("metrics").toString());
+		resource.setProjectName("metrics");
+		resource.setProjectStructure(Structure.DOMAIN);
+		resource.setDatabase(Database.MONGODB);
+		resource.setEntities(List.of(new Entity("order", List.of(
+				new Field("id", "String", true, false),
+				new Field("total", "Double", false, false)))));
+
+		//Other tests of the shared context may have generated the same structure and database
+		String[] tags = {"structure", "DOMAIN", "database", "MONGODB"};
+		long generations = timerCount(GenerationMetrics.GENERATION, tags, "outcome", "success");
+		long controllers = timerCount(GenerationMetrics.BUILDER, tags, "builder", "controller");
+		double entities = counterCount(GenerationMetrics.ENTITIES, tags);
+		double fields = counterCount(GenerationMetrics.FIELDS, tags);
+		double written = counterCount(GenerationMetrics.FILES, tags, "result", "written");
+
+		service.createProject(resource);
+
+		assertEquals(generations + 1, timerCount(GenerationMetrics.GENERATION, tags, "outcome", "success"));
+		assertEquals(controllers + 1, timerCount(GenerationMetrics.BUILDER, tags, "builder", "controller"));
+		assertNotNull(registry.get(GenerationMetrics.PHASE).tags(tags).tag("phase", "print").timer());
+		assertEquals(entities + 1, counterCount(GenerationMetrics.ENTITIES, tags));
+		assertEquals(fields + 2, counterCount(GenerationMetrics.FIELDS, tags));
+		// Seven classes for the entity, the main class and the pom
+		assertEquals(written + 9, counterCount(GenerationMetrics.FILES, tags, "result", "written"));
+	}
+
+	private long timerCount(String name, String[] tags, String... extraTags) {
+		Timer timer = registry.find(name).tags(tags).tags(extraTags).timer();
+		return timer == null ? 0 : timer.count();
+	}
+
+	private double counterCount(String name, String[] tags, String... extraTags) {
+		Counter counter = registry.find(name).tags(tags).tags(extraTags).counter();
+		return counter == null ? 0 : counter.count();
+	}
+}
@@ -0,0 +1,96 @@
+package com.crudfy.services.cache;
+
+import com.crudfy.domains.resources.ComponentResource;
+import com.crudfy.domains.resources.Entity;
+import com.crudfy.domains.resources.Field;
+import com.crudfy.services.CrudService;
+import com.crudfy.services.GenerationMetrics;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+
+@SpringBootTest(properties = "crudfy.cache.type=memory")
+class GenerationCacheTests {
+
+	@Autowired
+	private CrudService service;
+
+	@Autowired
+	private GenerationCache cache;
+
+	@Autowired
+	private MeterRegistry registry;
+
+	@TempDir
+	Path outputDir;
+
+	@Test
+	void identicalSpecIsRestoredFromCache() throws IOException {
+		service.createProject(buildResource("cached", outputDir.resolve("first")));
+		double hits = registry.find(GenerationMetrics.CACHE_REQUESTS).tag("result", "hit").counters().stream()
+				.mapToDouble(counter -> counter.count()).sum();
+
+		service.createProject(buildResource("cached", outputDir.resolve("second")));
+
+		assertEquals(hits + 1, registry.get(GenerationMetrics.CACHE_REQUESTS).tag("result", "hit").counter().count());
+		assertEquals(readTree(outputDir.resolve("first")), readTree(outputDir.resolve("second")));
+		// Empty directories are restored as well
+		assertEquals(true, Files.isDirectory(outputDir.resolve("second/src/main/resources")));
+	}
+
+	@Test
+	void streamedArchiveIsCached() throws IOException {
+		ByteArrayOutputStream first = new ByteArrayOutputStream();
+		service.createProjectArchive(buildResource("zipped", outputDir.resolve("zipped")), first);
+		int entries = cache.getEntries();
+
+		ByteArrayOutputStream second = new ByteArrayOutputStream();
+		service.createProjectArchive(buildResource("zipped", outputDir.resolve("zipped")), second);
+
+		assertEquals(entries, cache.getEntries());
+		assertArrayEquals(first.toByteArray(), second.toByteArray());
+	}
+
+	@Test
+	void keyIgnoresPathOnly() {
+		String key = cache.getKey(buildResource("keyed", outputDir.resolve("a")));
+
+		assertEquals(key, cache.getKey(buildResource("keyed", outputDir.resolve("b"))));
+		assertNotEquals(key, cache.getKey(buildResource("other", outputDir.resolve("a"))));
+	}
+
+	private ComponentResource buildResource(String projectName, Path path) {
+		ComponentResource resource = new ComponentResource();
+		resource.setPath(path.toString());
+		resource.setProjectName(projectName);
+		resource.setEntities(List.of(new Entity("customer", List.of(
+				new Field("id", "String", true, false),
+				new Field("birthDate", "LocalDate", false, false)))));
+		return resource;
+	}
+
+	private Map<String, String> readTree(Path root) throws IOException {
+		Map<String, String> files = new TreeMap<>();
+		try (Stream<Path> paths = Files.walk(root)) {
+			for (Path file : (Iterable<Path>) paths.filter(Files::isRegularFile)::iterator) {
+				files.put(root.relativize(file).toString(), Files.readString(file));
+			}
+		}
+		return files;
+	}
+}
@@ -0,0 +1,91 @@
+package com.crudfy.services.templates;
+
+import com.crudfy.domains.resources.ComponentResource;
+import com.crudfy.domains.resources.Database;
+import com.crudfy.domains.resources.Entity;
+import com.crudfy.domains.resources.EntityCache;
+import com.crudfy.domains.resources.Field;
+import com.crudfy.domains.resources.GenerationEngine;
+import com.crudfy.domains.resources.Structure;
+import com.crudfy.services.CrudService;
+import com.crudfy.services.output.InMemoryOutputSink;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+// CRLF so the line endings of the templates are converted, and not only copied from the resources
+@SpringBootTest(properties = "crudfy.output.line-ending=CRLF")
+class TemplateEngineEquivalenceTests {
+
+	@Autowired
+	private CrudService service;
+
+	static Stream<Arguments> projects() {
+		return Arrays.stream(Structure.values())
+				.flatMap(structure -> Arrays.stream(Database.values()).flatMap(database -> Stream.of(
+						Arguments.of(structure, database, false),
+						Arguments.of(structure, database, true))));
+	}
+
+	@ParameterizedTest
+	@MethodSource("projects")
+	void templateEngineGeneratesSameSourcesAsAstEngine(Structure structure, Database database, boolean reactive) {
+		Map<String, String> ast = generate(structure, database, reactive, GenerationEngine.AST);
+		Map<String, String> template = generate(structure, database, reactive, GenerationEngine.TEMPLATE);
+
+		assertEquals(ast.keySet(), template.keySet());
+		ast.forEach((path, source) -> assertEquals(source, template.get(path), path));
+		assertTrue(ast.entrySet().stream()
+				.filter(source -> source.getKey().endsWith(".java"))
+				.allMatch(source -> source.getValue().contains("\r\n")));
+	}
+
+	private Map<String, String> generate(Structure structure, Database database, boolean reactive, GenerationEngine engine) {
+		ComponentResource resource = new ComponentResource();
+		resource.setPath("/equivalence");
+		resource.setProjectName("equivalence");
+		resource.setProjectStructure(structure);
+		resource.setDatabase(database);
+		resource.setEngine(engine);
+		resource.setReactive(reactive);
+		//R2DBC maps neither sub entities nor collections
+		boolean r2dbc = reactive && database == Database.MYSQL;
+		List<Field> personFields = r2dbc ? List.of(
+				new Field("id", "String", true, false),
+				new Field("born", "LocalDate", false, false),
+				new Field("photo", "byte[]", false, false)) : List.of(
+				new Field("id", "String", true, false),
+				new Field("addresses", "Map<String,List< address >>", false, true),
+				new Field("home", "address", false, true),
+				new Field("parent", "person", false, true),
+				new Field("born", "LocalDate", false, false),
+				new Field("scores", "int [] []", false, false),
+				new Field("visits", "List<LocalDateTime>", false, false));
+		List<Field> orderItemFields = r2dbc ? List.of(new Field("code", "long", true, false)) : List.of(
+				new Field("code", "long", true, false),
+				new Field("owner", "List<person>", false, true));
+		resource.setEntities(List.of(
+				new Entity("person", personFields, true, !reactive, reactive ? null : new EntityCache(50, 60)),
+				new Entity("address", List.of(
+						new Field("street", "String", false, false),
+						new Field("number", "Integer", false, false))),
+				new Entity("order_item", orderItemFields, true, false)));
+
+		InMemoryOutputSink sink = new InMemoryOutputSink(resource.getPath());
+		service.generateTo(resource, resource.getPath(), sink);
+		Map<String, String> sources = new TreeMap<>();
+		sink.getFiles().keySet().forEach(path -> sources.put(path, sink.getContent(path)));
+		return sources;
+	}
+}
@@ -0,0 +1,75 @@
+package com.crudfy.services.validation;
+
+import com.crudfy.domains.exceptions.ResourceValidationException;
+import com.crudfy.domains.resources.ComponentResource;
+import com.crudfy.domains.resources.Database;
+import com.crudfy.domains.resources.Entity;
+import com.crudfy.domains.resources.EntityCache;
+import com.crudfy.domains.resources.Field;
+import com.crudfy.domains.resources.Structure;
+import com.crudfy.services.CrudService;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+@SpringBootTest
+class ResourceValidatorTests {
+
+	@Autowired
+	private CrudService service;
+
+	@TempDir
+	Path outputDir;
+
+	@Test
+	void everyErrorIsReportedBeforeAnythingIsWritten() {
+		Path path = outputDir.resolve("invalid");
+		ComponentResource resource = new ComponentResource();
+		resource.setPath(path.toString());
+		resource.setProjectName("invalid");
+		resource.setProjectStructure(Structure.LAYER);
+		resource.setDatabase(Database.MYSQL);
+		resource.setDefaultPageSize(500);
+		resource.setExportChunkSize(0);
+		resource.setBatchSize(0);
+		resource.setEntities(List.of(
+				new Entity("user", List.of(new Field("id", "Long", true, false), new Field("address", "Address", false, true))),
+				new Entity("order", List.of(new Field("id", "Long", true, false), new Field("class", "String", false, false)), false, false,
+						new EntityCache(0, 60))));
+
+		ResourceValidationException exception = assertThrows(ResourceValidationException.class, () -> service.createProject(resource));
+
+		assertEquals(6, exception.getErrors().size());
+		assertFalse(Files.exists(path));
+	}
+
+	@Test
+	void reactiveMysqlRejectsFieldsR2dbcCannotMap() {
+		ComponentResource resource = new ComponentResource();
+		resource.setPath(outputDir.resolve("r2dbc").toString());
+		resource.setProjectName("r2dbc");
+		resource.setDatabase(Database.MYSQL);
+		resource.setReactive(true);
+		resource.setEntities(List.of(
+				new Entity("user", List.of(
+						new Field("id", "Long", true, false),
+						new Field("photo", "byte[]", false, false),
+						new Field("address", "address", false, true),
+						new Field("tags", "List<String>", false, false),
+						new Field("scores", "int[][]", false, false))),
+				new Entity("address", List.of(new Field("street", "String", false, false)))));
+
+		ResourceValidationException exception = assertThrows(ResourceValidationException.class, () -> service.createProject(resource));
+
+		assertEquals(3, exception.getErrors().size());
+	}
+}
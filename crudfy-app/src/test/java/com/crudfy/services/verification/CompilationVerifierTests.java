@@ -0,0 +1,77 @@
+package com.crudfy.services.verification;
+
+import com.crudfy.domains.resources.ComponentResource;
+import com.crudfy.domains.resources.Database;
+import com.crudfy.domains.resources.Entity;
+import com.crudfy.domains.resources.EntityCache;
+import com.crudfy.domains.resources.Field;
+import com.crudfy.domains.resources.Structure;
+import com.crudfy.domains.responses.CompilationDiagnostic;
+import com.crudfy.domains.responses.GenerationReport;
+import com.crudfy.services.CrudService;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@SpringBootTest(properties = "crudfy.verification.batch-size=5")
+class CompilationVerifierTests {
+
+	@Autowired
+	private CrudService service;
+
+	@TempDir
+	Path outputDir;
+
+	@Test
+	void generatedProjectsCompileForEveryDatabase() {
+		for (Database database : Database.values()) {
+			GenerationReport report = service.createProject(buildResource(database, "String", false), true);
+
+			assertEquals(List.of(), report.getDiagnostics(), database.name());
+
+			report = service.createProject(buildResource(database, "String", true), true);
+
+			assertEquals(List.of(), report.getDiagnostics(), database.name() + " reactive");
+		}
+	}
+
+	@Test
+	void unknownTypeIsReportedOnItsEntity() {
+		GenerationReport report = service.createProject(buildResource(Database.MYSQL, "BigDecimal", false), true);
+
+		assertTrue(report.getDiagnostics().size() >= 3);
+		for (CompilationDiagnostic diagnostic : report.getDiagnostics()) {
+			assertTrue(diagnostic.getFile().matches(".*/domains/Order(Resource|Response)?\\.java"), diagnostic.getFile());
+			assertTrue(diagnostic.getMessage().contains("BigDecimal"), diagnostic.getMessage());
+		}
+	}
+
+	private ComponentResource buildResource(Database database, String totalType, boolean reactive) {
+		ComponentResource resource = new ComponentResource();
+		resource.setPath(outputDir.resolve(database.name() + (reactive ? "-reactive" : "")).toString());
+		resource.setProjectName("verified");
+		resource.setProjectStructure(Structure.LAYER);
+		resource.setDatabase(database);
+		resource.setReactive(reactive);
+		//R2DBC maps neither sub entities nor collections
+		boolean r2dbc = reactive && database == Database.MYSQL;
+		resource.setEntities(List.of(
+				new Entity("order", List.of(
+						new Field("id", "String", true, false),
+						new Field("total", totalType, false, false),
+						r2dbc ? new Field("itemCount", "Integer", false, false) : new Field("items", "List<item>", false, true),
+						new Field("created", "LocalDateTime", false, false)), true, false),
+				new Entity("item", List.of(
+						new Field("id", "Long", true, false),
+						r2dbc ? new Field("tag", "String", false, false) : new Field("tags", "Map<String, List<String>>", false, false)),
+						false, !reactive, reactive ? null : new EntityCache())));
+		return resource;
+	}
+}
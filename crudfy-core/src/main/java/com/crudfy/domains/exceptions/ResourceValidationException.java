@@ -0,0 +1,23 @@
+package com.crudfy.domains.exceptions;
+
+import java.util.Collections;
+import java.util.List;
+
+public class ResourceValidationException extends RuntimeException{
+
+    private final List<String> errors;
+
+    public ResourceValidationException(String message) {
+        super(message);
+        this.errors = Collections.singletonList(message);
+    }
+
+    public ResourceValidationException(List<String> errors) {
+        super(String.join("; ", errors));
+        this.errors = Collections.unmodifiableList(errors);
+    }
+
+    public List<String> getErrors() {
+        return errors;
+    }
+}
@@ -0,0 +1,26 @@
+package com.crudfy.domains.resources;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+
+import java.util.List;
+
+@Data
+public class ComponentResource {
+    private String path;
+    private String projectName;
+    private Structure projectStructure = Structure.LAYER;
+    private Database database = Database.MYSQL;
+    private GenerationEngine engine = GenerationEngine.AST;
+    //WebFlux project with reactive repositories instead of Spring MVC and blocking repositories
+    private boolean reactive;
+    //Page size of the generated list endpoints when the request has none, and the largest size accepted
+    private int defaultPageSize = 20;
+    private int maxPageSize = 100;
+    //Rows written between flushes of the NDJSON export endpoints
+    private int exportChunkSize = 1000;
+    //Entities per chunk of the batch endpoints, also the JDBC batch size of the JPA projects
+    private int batchSize = 500;
+    private List<Entity> entities;
+}
@@ -0,0 +1,29 @@
+package com.crudfy.domains.resources;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class Entity {
+    private String name;
+    private List<Field> fields;
+    //Generates the GET /{entity}/export endpoint, the whole collection as NDJSON
+    private boolean export;
+    //Generates the POST, PUT and DELETE /{entity}/batch endpoints, saved and deleted in chunks
+    private boolean batch;
+    //Caches the entities read by id in the generated service, null when the entity is not cached
+    private EntityCache cache;
+
+    public Entity(String name, List<Field> fields) {
+        this(name, fields, false, false);
+    }
+
+    public Entity(String name, List<Field> fields, boolean export, boolean batch) {
+        this(name, fields, export, batch, null);
+    }
+}
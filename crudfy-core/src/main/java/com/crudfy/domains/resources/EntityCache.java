@@ -0,0 +1,14 @@
+package com.crudfy.domains.resources;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class EntityCache {
+    //Entities kept in the Caffeine cache, and seconds each one is kept after it is written
+    private int maximumSize = 1000;
+    private int ttlSeconds = 600;
+}
@@ -0,0 +1,6 @@
+package com.crudfy.domains.resources;
+
+public enum GenerationEngine {
+    AST,
+    TEMPLATE
+}
@@ -0,0 +1,15 @@
+package com.crudfy.domains.responses;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class CompilationDiagnostic {
+    private String file;
+    private long line;
+    private long column;
+    private String message;
+}
@@ -0,0 +1,16 @@
+package com.crudfy.domains.responses;
+
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.Map;
+
+@Data
+@NoArgsConstructor
+public class GenerationPreview {
+    private String projectName;
+    private int files;
+    private int directories;
+    private long bytes;
+    private Map<String, String> contents;
+}
@@ -0,0 +1,23 @@
+package com.crudfy.domains.responses;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class GenerationReport {
+    private String message;
+    private int filesWritten;
+    private int filesSkipped;
+    private int filesDeleted;
+    //Compilation errors of the generated sources, only when the verification was requested
+    private List<CompilationDiagnostic> diagnostics;
+
+    public GenerationReport(String message, int filesWritten, int filesSkipped, int filesDeleted) {
+        this(message, filesWritten, filesSkipped, filesDeleted, null);
+    }
+}
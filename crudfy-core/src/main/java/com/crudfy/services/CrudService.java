@@ -0,0 +1,820 @@
+package com.crudfy.services;
+
+import com.crudfy.domains.exceptions.ResourceValidationException;
+import com.crudfy.domains.resources.*;
+import com.crudfy.domains.responses.GenerationPreview;
+import com.crudfy.domains.responses.GenerationReport;
+import com.crudfy.services.builders.ControllerBuilder;
+import com.crudfy.services.builders.DomainBuilder;
+import com.crudfy.services.builders.GenerationContext;
+import com.crudfy.services.builders.RepositoryBuilder;
+import com.crudfy.services.builders.ServiceBuilder;
+import com.crudfy.services.cache.ArchiveRecorder;
+import com.crudfy.services.cache.GenerationCache;
+import com.crudfy.services.input.ComponentResourceStream;
+import com.crudfy.services.output.DryRunOutputSink;
+import com.crudfy.services.output.FileSystemOutputSink;
+import com.crudfy.services.output.InMemoryOutputSink;
+import com.crudfy.services.output.OutputSink;
+import com.crudfy.services.output.TeeOutputSink;
+import com.crudfy.services.output.ZipOutputSink;
+import com.crudfy.services.templates.TemplateBuilder;
+import com.crudfy.services.utils.EntityNames;
+import com.crudfy.services.utils.NameUtils;
+import com.crudfy.services.utils.SourcePrinter;
+import com.crudfy.services.utils.TypeUtils;
+import com.crudfy.services.validation.ResourceValidator;
+import com.crudfy.services.verification.CompilationVerifier;
+import com.github.javaparser.ast.CompilationUnit;
+import com.github.javaparser.ast.Modifier;
+import com.github.javaparser.ast.NodeList;
+import com.github.javaparser.ast.body.ClassOrInterfaceDeclaration;
+import com.github.javaparser.ast.body.MethodDeclaration;
+import com.github.javaparser.ast.body.VariableDeclarator;
+import com.github.javaparser.ast.expr.ClassExpr;
+import com.github.javaparser.ast.expr.Expression;
+import com.github.javaparser.ast.expr.LongLiteralExpr;
+import com.github.javaparser.ast.expr.MethodCallExpr;
+import com.github.javaparser.ast.expr.NameExpr;
+import com.github.javaparser.ast.expr.ObjectCreationExpr;
+import com.github.javaparser.ast.expr.StringLiteralExpr;
+import com.github.javaparser.ast.expr.VariableDeclarationExpr;
+import com.github.javaparser.ast.stmt.BlockStmt;
+import com.github.javaparser.ast.stmt.ExpressionStmt;
+import com.github.javaparser.ast.stmt.ReturnStmt;
+import com.github.javaparser.ast.type.VoidType;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import org.apache.maven.model.*;
+import org.apache.maven.model.io.xpp3.MavenXpp3Writer;
+import org.codehaus.plexus.util.xml.Xpp3Dom;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipInputStream;
+import java.util.zip.ZipOutputStream;
+
+import static com.crudfy.domains.resources.Structure.DOMAIN;
+import static com.crudfy.domains.resources.Structure.LAYER;
+
+@Service
+public class CrudService {
+
+    @Autowired
+    private DomainBuilder domainBuilder;
+
+    @Autowired
+    private ControllerBuilder controllerBuilder;
+
+    @Autowired
+    private RepositoryBuilder repositoryBuilder;
+
+    @Autowired
+    private ServiceBuilder serviceBuilder;
+
+    @Autowired
+    private TemplateBuilder templateBuilder;
+
+    @Autowired
+    private NameUtils nameUtils;
+
+    @Autowired
+    private TypeUtils typeUtils;
+
+    @Autowired
+    private SourcePrinter sourcePrinter;
+
+    @Autowired
+    private GenerationMetrics metrics;
+
+    @Autowired
+    private GenerationCache cache;
+
+    @Autowired
+    private ResourceValidator validator;
+
+    @Autowired
+    private CompilationVerifier compilationVerifier;
+
+    @Value("${crudfy.generation.parallel:false}")
+    private boolean parallel;
+
+    @Value("${crudfy.generation.parallelism:0}")
+    private int parallelism;
+
+    private ForkJoinPool generationPool;
+
+    //Shared by every generated pom, the writer only reads them
+    private List<Plugin> pomPlugins;
+    private final Map<Database, List<Dependency>> pomDependencies = new EnumMap<>(Database.class);
+    private final Map<Database, List<Dependency>> reactivePomDependencies = new EnumMap<>(Database.class);
+
+    @PostConstruct
+    private void createGenerationPool() {
+        if (parallel) {
+            generationPool = new ForkJoinPool(parallelism > 0 ? parallelism : Runtime.getRuntime().availableProcessors());
+        }
+    }
+
+    @PostConstruct
+    private void createPomArtifacts() {
+        pomPlugins = Collections.unmodifiableList(createPomPlugins());
+        for (Database database : Database.values()) {
+            pomDependencies.put(database, Collections.unmodifiableList(createPomDependencies(database, false)));
+            reactivePomDependencies.put(database, Collections.unmodifiableList(createPomDependencies(database, true)));
+        }
+    }
+
+    @PreDestroy
+    private void shutdownGenerationPool() {
+        if (generationPool != null) {
+            generationPool.shutdown();
+        }
+    }
+
+    public GenerationReport createProject(ComponentResource resource) {
+        return createProject(resource, false);
+    }
+
+    /**
+     * Generates the project on the disk. With verify, the generated sources are also compiled in memory and the
+     * compilation errors are returned in the report.
+     */
+    public GenerationReport createProject(ComponentResource resource, boolean verify) {
+        Tags tags = GenerationMetrics.tags(resource);
+        Timer.Sample generation = metrics.start();
+        boolean success = false;
+        try {
+            metrics.recordPhase(tags, "validation", () -> verifyResource(resource));
+            FileSystemOutputSink sink = new FileSystemOutputSink(resource.getPath());
+            InMemoryOutputSink sources = verify ? new InMemoryOutputSink(resource.getPath()) : null;
+            OutputSink output = verify ? new TeeOutputSink(sink, sources) : sink;
+            GenerationReport report;
+            try {
+                if (cache.isEnabled()) {
+                    generateWithCache(resource, output, tags);
+                } else {
+                    generate(resource, new GenerationContext(resource, resource.getPath(), output, nameUtils));
+                }
+                report = finishProject(resource, sink, tags);
+            } catch (IOException | RuntimeException e) {
+                sink.abort();
+                throw e;
+            }
+            if (verify) {
+                Timer.Sample verification = metrics.start();
+                Map<String, String> files = new LinkedHashMap<>();
+                sources.getFiles().keySet().forEach(path -> files.put(path, sources.getContent(path)));
+                report.setDiagnostics(compilationVerifier.verify(files));
+                metrics.stopPhase(verification, tags, "verify");
+            }
+            success = true;
+            return report;
+        } catch (IOException e) {
+            throw new RuntimeException("Erro na leitura ou escrita do manifesto do projeto", e);
+        } finally {
+            metrics.stopGeneration(generation, tags, "disk", success);
+        }
+    }
+
+    public void createProjectArchive(ComponentResource resource, OutputStream output) throws IOException {
+        Tags tags = GenerationMetrics.tags(resource);
+        Timer.Sample generation = metrics.start();
+        boolean success = false;
+        try {
+            metrics.recordPhase(tags, "validation", () -> verifyResource(resource));
+            if (!cache.isEnabled()) {
+                writeArchive(resource, output, tags);
+            } else {
+                //The cached archives have the same layout as the downloaded ones
+                String key = cache.getKey(resource);
+                byte[] archive = cache.get(key);
+                metrics.countCacheRequest(tags, archive != null);
+                if (archive != null) {
+                    output.write(archive);
+                } else {
+                    //Still streamed to the response, a copy is kept for the cache while it fits in it
+                    ArchiveRecorder recorder = new ArchiveRecorder(output, cache.getMaxSize());
+                    writeArchive(resource, recorder, tags);
+                    recorder.flush();
+                    archive = recorder.getArchive();
+                    if (archive != null) {
+                        cache.put(key, archive);
+                    }
+                }
+            }
+            success = true;
+        } finally {
+            metrics.stopGeneration(generation, tags, "zip", success);
+        }
+    }
+
+    /**
+     * Generates the project into any sink, with the paths built under the given root. The cache is not used.
+     */
+    public void generateTo(ComponentResource resource, String root, OutputSink sink) {
+        verifyResource(resource);
+        generate(resource, new GenerationContext(resource, root, sink, nameUtils));
+    }
+
+    /**
+     * Size of the project without writing it. With the content, every file is returned by its path in the project.
+     */
+    public GenerationPreview preview(ComponentResource resource, boolean includeContent) {
+        String root = resource.getProjectName();
+        GenerationPreview preview = new GenerationPreview();
+        preview.setProjectName(root);
+        if (includeContent) {
+            InMemoryOutputSink sink = new InMemoryOutputSink(root);
+            generateTo(resource, root, sink);
+            Map<String, String> contents = new LinkedHashMap<>();
+            sink.getFiles().forEach((path, content) -> contents.put(path, new String(content, StandardCharsets.UTF_8)));
+            preview.setFiles(contents.size());
+            preview.setDirectories(sink.getDirectories().size());
+            preview.setBytes(sink.getFiles().values().stream().mapToLong(content -> content.length).sum());
+            preview.setContents(contents);
+        } else {
+            DryRunOutputSink sink = new DryRunOutputSink();
+            generateTo(resource, root, sink);
+            preview.setFiles(sink.getFilesWritten());
+            preview.setDirectories(sink.getDirectoriesCreated());
+            preview.setBytes(sink.getBytesWritten());
+        }
+        return preview;
+    }
+
+    private void generateWithCache(ComponentResource resource, OutputSink sink, Tags tags) throws IOException {
+        String key = cache.getKey(resource);
+        byte[] archive = cache.get(key);
+        metrics.countCacheRequest(tags, archive != null);
+        if (archive != null) {
+            //Goes through the sink like a generation, so unchanged files are still skipped
+            Timer.Sample restore = metrics.start();
+            restoreArchive(archive, resource.getPath(), sink);
+            metrics.stopPhase(restore, tags, "cache-restore");
+        } else {
+            ArchiveRecorder recorder = new ArchiveRecorder(OutputStream.nullOutputStream(), cache.getMaxSize());
+            try (ZipOutputStream zip = new ZipOutputStream(recorder)) {
+                OutputSink archiveSink = new ZipOutputSink(zip, resource.getPath());
+                generate(resource, new GenerationContext(resource, resource.getPath(), new TeeOutputSink(sink, archiveSink), nameUtils));
+            }
+            archive = recorder.getArchive();
+            if (archive != null) {
+                cache.put(key, archive);
+            }
+        }
+    }
+
+    /**
+     * Streams the project as a zip, the output is finished but not closed.
+     */
+    private void writeArchive(ComponentResource resource, OutputStream output, Tags tags) throws IOException {
+        ZipOutputStream zip = new ZipOutputStream(output);
+        //Inside the archive every path is relative to the project root
+        String root = resource.getProjectName();
+        ZipOutputSink sink = new ZipOutputSink(zip, root);
+        generate(resource, new GenerationContext(resource, root, sink, nameUtils));
+        zip.finish();
+
+        metrics.countFiles(tags, "written", sink.getFilesWritten());
+        metrics.countBytes(tags, sink.getBytesWritten());
+    }
+
+    private void restoreArchive(byte[] archive, String root, OutputSink sink) throws IOException {
+        try (ZipInputStream zip = new ZipInputStream(new ByteArrayInputStream(archive))) {
+            for (ZipEntry entry = zip.getNextEntry(); entry != null; entry = zip.getNextEntry()) {
+                String path = String.format("%s/%s", root, entry.getName());
+                if (entry.isDirectory()) {
+                    sink.createDirectories(path.substring(0, path.length() - 1));
+                } else {
+                    //Not closed, it would close the archive
+                    InputStreamReader reader = new InputStreamReader(zip, StandardCharsets.UTF_8);
+                    sink.write(path, reader::transferTo);
+                }
+            }
+        }
+    }
+
+    /**
+     * Generates the project while the spec is read, each entity is validated and written before the next one is parsed.
+     */
+    public GenerationReport createProject(ComponentResourceStream stream) throws IOException {
+        ComponentResource resource = stream.getHeader();
+        validator.validateProject(resource);
+        Tags tags = GenerationMetrics.tags(resource);
+        Timer.Sample generation = metrics.start();
+        boolean success = false;
+        try {
+            FileSystemOutputSink sink = new FileSystemOutputSink(resource.getPath());
+            GenerationContext context = new GenerationContext(resource, resource.getPath(), sink, nameUtils);
+            GenerationReport report;
+            try {
+                Timer.Sample entitiesPhase = metrics.start();
+                int entities = 0;
+                for (Entity entity = stream.next(); entity != null; entity = stream.next()) {
+                    verifyEntity(entity, resource);
+                    if (entities++ == 0) {
+                        createProjectStructure(context);
+                    }
+                    createEntity(context, entity);
+                    metrics.countEntities(tags, List.of(entity));
+                    //Only the names of the entities still to come are kept
+                    context.releaseEntityNames(entity.getName());
+                }
+                metrics.stopPhase(entitiesPhase, tags, "entities");
+                if (entities == 0) {
+                    throw new ResourceValidationException("É necessário ao menos uma entidade para construir o projeto");
+                }
+                createBaseProject(context);
+                report = finishProject(resource, sink, tags);
+            } catch (IOException | RuntimeException e) {
+                sink.abort();
+                throw e;
+            }
+            success = true;
+            return report;
+        } finally {
+            metrics.stopGeneration(generation, tags, "disk", success);
+        }
+    }
+
+    private GenerationReport finishProject(ComponentResource resource, FileSystemOutputSink sink, Tags tags) throws IOException {
+        Timer.Sample finish = metrics.start();
+        sink.finish();
+        metrics.stopPhase(finish, tags, "finish");
+
+        metrics.countFiles(tags, "written", sink.getFilesWritten());
+        metrics.countFiles(tags, "skipped", sink.getFilesSkipped());
+        metrics.countFiles(tags, "deleted", sink.getFilesDeleted());
+        metrics.countBytes(tags, sink.getBytesWritten());
+        return new GenerationReport(String.format("Projeto criado com sucesso em %s", resource.getPath()),
+                sink.getFilesWritten(), sink.getFilesSkipped(), sink.getFilesDeleted());
+    }
+
+    private void generate(ComponentResource resource, GenerationContext context) {
+        Tags tags = context.getMetricTags();
+        createProjectStructure(context);
+
+        metrics.recordPhase(tags, "entities", () -> {
+            if (generationPool == null) {
+                resource.getEntities().forEach(entity -> createEntity(context, entity));
+            } else {
+                createEntityClassesInParallel(context, resource.getEntities());
+            }
+        });
+        metrics.countEntities(tags, resource.getEntities());
+        //Written after the entities, the main class and the pom depend on the caches they declare
+        createBaseProject(context);
+    }
+
+    private void createProjectStructure(GenerationContext context) {
+        context.getSink().createDirectories(nameUtils.getResourcePath(context.getBasePath()));
+        context.getSink().createDirectories(nameUtils.getTestRootPath(context.getBasePath(), context.getProjectName()));
+        context.getSink().createDirectories(nameUtils.getMainRootPath(context.getBasePath(), context.getProjectName()));
+        if (LAYER.equals(context.getProjectStructure())) {
+            metrics.recordPhase(context.getMetricTags(), "packages", () -> createLayerStructurePackages(context));
+        }
+    }
+
+    private void createEntity(GenerationContext context, Entity entity) {
+        EntityNames names = context.getEntityNames(entity.getName());
+        if (entity.getCache() != null) {
+            context.addCache(names.getEntityVariableName(), entity.getCache());
+        }
+        if (DOMAIN.equals(context.getProjectStructure())) {
+            metrics.recordPhase(context.getMetricTags(), "packages", () -> createDomainStructurePackages(context, names));
+        }
+        createEntityClasses(context, names, entity);
+    }
+
+    private void createEntityClassesInParallel(GenerationContext context, List<Entity> entities) {
+        try {
+            //Every entity writes its own files, so the output does not depend on the order they finish
+            generationPool.submit(() -> entities.parallelStream()
+                    .forEach(entity -> createEntity(context, entity)))
+                    .get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("Geração do projeto interrompida", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw new RuntimeException("Erro na geração das classes das entidades", e.getCause());
+        }
+    }
+
+    private void createEntityClasses(GenerationContext context, EntityNames names, Entity entity) {
+        if (GenerationEngine.TEMPLATE.equals(context.getEngine())) {
+            renderEntityClasses(context, names, entity);
+            return;
+        }
+        Tags tags = context.getMetricTags();
+        createDomainClasses(context, names, entity.getFields());
+        if (entity.isBatch()) {
+            metrics.recordBuilder(tags, "batch-result", () -> domainBuilder.buildBatchResult(context, names));
+        }
+        metrics.recordBuilder(tags, "repository", () -> repositoryBuilder.buildRepository(context, names, entity));
+        metrics.recordBuilder(tags, "controller", () -> controllerBuilder.buildController(context, names, entity));
+        metrics.recordBuilder(tags, "mapper", () -> serviceBuilder.buildMapper(context, names));
+        metrics.recordBuilder(tags, "service", () -> serviceBuilder.buildService(context, names, entity));
+    }
+
+    private void renderEntityClasses(GenerationContext context, EntityNames names, Entity entity) {
+        Tags tags = context.getMetricTags();
+        List<Field> fields = entity.getFields();
+        metrics.recordBuilder(tags, "response", () -> templateBuilder.buildResponse(context, names, fields));
+        metrics.recordBuilder(tags, "resource", () -> templateBuilder.buildResource(context, names, fields));
+        metrics.recordBuilder(tags, "entity", () -> templateBuilder.buildEntity(context, names, fields));
+        if (entity.isBatch()) {
+            metrics.recordBuilder(tags, "batch-result", () -> templateBuilder.buildBatchResult(context, names));
+        }
+        metrics.recordBuilder(tags, "repository", () -> templateBuilder.buildRepository(context, names, entity));
+        metrics.recordBuilder(tags, "controller", () -> templateBuilder.buildController(context, names, entity));
+        metrics.recordBuilder(tags, "mapper", () -> templateBuilder.buildMapper(context, names));
+        metrics.recordBuilder(tags, "service", () -> templateBuilder.buildService(context, names, entity));
+    }
+
+    private void createLayerStructurePackages(GenerationContext context) {
+        String basePath = context.getBasePath();
+        String projectName = context.getProjectName();
+        OutputSink sink = context.getSink();
+        sink.createDirectories(nameUtils.getControllerPath(basePath, projectName, null));
+        sink.createDirectories(nameUtils.getServicePath(basePath, projectName, null));
+        sink.createDirectories(nameUtils.getDomainPath(basePath, projectName, null));
+        sink.createDirectories(nameUtils.getRepositoryPath(basePath, projectName, null));
+    }
+
+    private void createDomainStructurePackages(GenerationContext context, EntityNames names) {
+        OutputSink sink = context.getSink();
+        sink.createDirectories(names.getEntityRootPath());
+        sink.createDirectories(names.getControllerPath());
+        sink.createDirectories(names.getServicePath());
+        sink.createDirectories(names.getDomainPath());
+        sink.createDirectories(names.getRepositoryPath());
+    }
+
+    public void verifyResource(ComponentResource resource) {
+        validator.validate(resource);
+    }
+
+    private void verifyEntity(Entity entity, ComponentResource resource) {
+        validator.validate(entity, resource);
+    }
+
+    private void createDomainClasses(GenerationContext context, EntityNames names, List<Field> fields) {
+
+        Tags tags = context.getMetricTags();
+        metrics.recordBuilder(tags, "response", () -> domainBuilder.buildResponse(context, names, fields));
+        metrics.recordBuilder(tags, "resource", () -> domainBuilder.buildResource(context, names, fields));
+        metrics.recordBuilder(tags, "entity", () -> domainBuilder.buildEntity(context, names, fields));
+    }
+
+    private void createBaseProject(GenerationContext context) {
+
+        metrics.recordPhase(context.getMetricTags(), "main-class", () -> createMainClass(context));
+        metrics.recordPhase(context.getMetricTags(), "pom", () -> createPomFile(context));
+        if (context.isJpa() || context.isR2dbc()) {
+            metrics.recordPhase(context.getMetricTags(), "properties", () -> createApplicationProperties(context));
+        }
+    }
+
+    /**
+     * Hibernate only groups the inserts and updates of saveAll into JDBC batches when the batch size is set, and the
+     * MySQL driver only sends a batch as multi-row statements with rewriteBatchedStatements. The R2DBC projects only
+     * need the connection, Spring Boot has no default for it.
+     */
+    private void createApplicationProperties(GenerationContext context) {
+
+        String lineSeparator = sourcePrinter.getLineSeparator();
+        String database = context.getProjectName().toLowerCase();
+        String properties;
+        if (context.isR2dbc()) {
+            properties = String.format("spring.r2dbc.url=r2dbc:mysql://localhost:3306/%s", database) + lineSeparator;
+        } else {
+            properties = String.join(lineSeparator,
+                    String.format("spring.datasource.url=jdbc:mysql://localhost:3306/%s?rewriteBatchedStatements=true", database),
+                    "spring.jpa.properties.hibernate.jdbc.batch_size=" + context.getBatchSize(),
+                    "spring.jpa.properties.hibernate.order_inserts=true",
+                    "spring.jpa.properties.hibernate.order_updates=true") + lineSeparator;
+        }
+        try {
+            context.getSink().write(nameUtils.getResourcePath(context.getBasePath()) + "/application.properties",
+                    writer -> writer.write(properties));
+        } catch (IOException e) {
+            throw new RuntimeException("Problema ao criar o arquivo application.properties", e);
+        }
+    }
+
+    private void createMainClass(GenerationContext context) {
+
+        String projectName = context.getProjectName();
+        CompilationUnit compilationUnit = new CompilationUnit();
+        String className = nameUtils.getMainClassName(projectName);
+
+        //Class and Package
+        compilationUnit.setPackageDeclaration(nameUtils.getRootImportPath(projectName));
+        ClassOrInterfaceDeclaration mainClass = compilationUnit.addClass(className).setPublic(true);
+
+        //Imports
+        compilationUnit.addImport("org.springframework.boot.SpringApplication");
+        compilationUnit.addImport("org.springframework.boot.autoconfigure.SpringBootApplication");
+
+        //Annotations
+        mainClass.addAnnotation("SpringBootApplication");
+
+        //Method Block
+        BlockStmt blockStmt = new BlockStmt();
+        Expression run = new MethodCallExpr(new NameExpr("SpringApplication"), "run", new NodeList<>(new ClassExpr(typeUtils.getClassOrInterfaceType(className)), new NameExpr("args")));
+        blockStmt.addStatement(new ExpressionStmt(run));
+
+        //Method
+        MethodDeclaration getTest = mainClass.addMethod("main", Modifier.Keyword.PUBLIC, Modifier.Keyword.STATIC).addParameter("String[]", "args");
+        getTest.setType(new VoidType());
+        getTest.setBody(blockStmt);
+
+        if (context.isReactive()) {
+            addPageableResolver(compilationUnit, mainClass);
+        }
+        if (!context.getCaches().isEmpty()) {
+            addCacheManager(context, compilationUnit, mainClass);
+        }
+
+        try {
+            //File Writing
+            context.getSink().write(String.format("%s/%s.java", nameUtils.getMainRootPath(context.getBasePath(), projectName), className),
+                    writer -> sourcePrinter.print(compilationUnit, writer));
+        } catch (IOException e) {
+            throw new RuntimeException("Erro na escrita da classe main", e);
+        }
+    }
+
+    /**
+     * Spring Boot only registers the Pageable argument resolver of Spring MVC, WebFlux controllers need Spring Data's
+     * reactive one for the Pageable of the list endpoints.
+     */
+    private void addPageableResolver(CompilationUnit compilationUnit, ClassOrInterfaceDeclaration mainClass) {
+        compilationUnit.addImport("org.springframework.data.web.ReactivePageableHandlerMethodArgumentResolver");
+        compilationUnit.addImport("org.springframework.web.reactive.config.WebFluxConfigurer");
+        compilationUnit.addImport("org.springframework.web.reactive.result.method.annotation.ArgumentResolverConfigurer");
+        mainClass.addImplementedType("WebFluxConfigurer");
+
+        BlockStmt blockStmt = new BlockStmt();
+        blockStmt.addStatement(new MethodCallExpr(new NameExpr("configurer"), "addCustomResolver",
+                new NodeList<>(new ObjectCreationExpr().setType(typeUtils.getClassOrInterfaceType("ReactivePageableHandlerMethodArgumentResolver")))));
+
+        MethodDeclaration configureArgumentResolvers = mainClass.addMethod("configureArgumentResolvers", Modifier.Keyword.PUBLIC)
+                .addParameter("ArgumentResolverConfigurer", "configurer");
+        configureArgumentResolvers.addAnnotation("Override");
+        configureArgumentResolvers.setType(new VoidType());
+        configureArgumentResolvers.setBody(blockStmt);
+    }
+
+    /**
+     * One Caffeine cache per cached entity, each with its own size and expiration. The cache names are set before the
+     * caches are registered, so the cache manager does not create caches for names it does not know.
+     */
+    private void addCacheManager(GenerationContext context, CompilationUnit compilationUnit, ClassOrInterfaceDeclaration mainClass) {
+        compilationUnit.addImport("com.github.benmanes.caffeine.cache.Caffeine");
+        compilationUnit.addImport("org.springframework.cache.CacheManager");
+        compilationUnit.addImport("org.springframework.cache.annotation.EnableCaching");
+        compilationUnit.addImport("org.springframework.cache.caffeine.CaffeineCacheManager");
+        compilationUnit.addImport("org.springframework.context.annotation.Bean");
+        compilationUnit.addImport("java.time.Duration");
+        compilationUnit.addImport("java.util.List");
+        mainClass.addAnnotation("EnableCaching");
+
+        BlockStmt blockStmt = new BlockStmt();
+        blockStmt.addStatement(new VariableDeclarationExpr(new VariableDeclarator(typeUtils.getClassOrInterfaceType("CaffeineCacheManager"),
+                "cacheManager", new ObjectCreationExpr().setType(typeUtils.getClassOrInterfaceType("CaffeineCacheManager")))));
+        //Without names the cache manager stays dynamic and creates an unbounded cache for any other name
+        NodeList<Expression> cacheNames = new NodeList<>();
+        context.getCaches().keySet().forEach(name -> cacheNames.add(new StringLiteralExpr(name)));
+        blockStmt.addStatement(new MethodCallExpr(new NameExpr("cacheManager"), "setCacheNames",
+                new NodeList<>(new MethodCallExpr(new NameExpr("List"), "of", cacheNames))));
+        context.getCaches().forEach((name, cache) -> {
+            Expression builder = new MethodCallExpr(new NameExpr("Caffeine"), "newBuilder");
+            builder = new MethodCallExpr(builder, "maximumSize", new NodeList<>(new LongLiteralExpr(cache.getMaximumSize() + "L")));
+            builder = new MethodCallExpr(builder, "expireAfterWrite", new NodeList<>(new MethodCallExpr(new NameExpr("Duration"),
+                    "ofSeconds", new NodeList<>(new LongLiteralExpr(cache.getTtlSeconds() + "L")))));
+            builder = new MethodCallExpr(builder, "build");
+            blockStmt.addStatement(new MethodCallExpr(new NameExpr("cacheManager"), "registerCustomCache",
+                    new NodeList<>(new StringLiteralExpr(name), builder)));
+        });
+        blockStmt.addStatement(new ReturnStmt(new NameExpr("cacheManager")));
+
+        MethodDeclaration cacheManager = mainClass.addMethod("cacheManager", Modifier.Keyword.PUBLIC);
+        cacheManager.addAnnotation("Bean");
+        cacheManager.setType(typeUtils.getClassOrInterfaceType("CacheManager"));
+        cacheManager.setBody(blockStmt);
+    }
+
+    private void createPomFile(GenerationContext context) {
+
+        String projectName = context.getProjectName();
+
+        Parent parent = new Parent();
+        parent.setArtifactId("spring-boot-starter-parent");
+        parent.setGroupId("org.springframework.boot");
+        parent.setVersion("2.5.2");
+
+        Properties properties = new Properties();
+        properties.setProperty("java.version", "11");
+
+        Build build = new Build();
+        build.setPlugins(pomPlugins);
+
+        Model model = new Model();
+        model.setModelVersion("4.0.0");
+        model.setParent(parent);
+        model.setGroupId( "some.group.id" );
+        model.setArtifactId(projectName);
+        model.setVersion("0.0.1-SNAPSHOT");
+        model.setName(projectName);
+        model.setDescription(projectName + " basic CRUD project (Made by CRUDFY)");
+        model.setProperties(properties);
+        List<Dependency> dependencies = (context.isReactive() ? reactivePomDependencies : pomDependencies).get(context.getDatabase());
+        if (!context.getCaches().isEmpty()) {
+            dependencies = new ArrayList<>(dependencies);
+            dependencies.addAll(createCacheDependencies());
+        }
+        model.setDependencies(dependencies);
+        model.setBuild(build);
+
+        try {
+            context.getSink().write(context.getBasePath() + "/pom.xml", writer -> new MavenXpp3Writer().write( writer, model ));
+        } catch (IOException e) {
+            throw new RuntimeException("Problema ao criar o arquivo pom.xml", e);
+        }
+    }
+
+    private List<Plugin> createPomPlugins() {
+        List<Plugin> plugins = new ArrayList<>();
+
+        Plugin springMavenPlugin = new Plugin();
+        springMavenPlugin.setGroupId("org.springframework.boot");
+        springMavenPlugin.setArtifactId("spring-boot-maven-plugin");
+        springMavenPlugin.setVersion("${project.parent.version}");
+        plugins.add(springMavenPlugin);
+
+        Xpp3Dom latestVersion = new Xpp3Dom("version");
+        latestVersion.setValue("LATEST");
+
+        Xpp3Dom lombokPathGroupId = new Xpp3Dom("groupId");
+        lombokPathGroupId.setValue("org.projectlombok");
+
+        Xpp3Dom lombokPathArtifactId = new Xpp3Dom("artifactId");
+        lombokPathArtifactId.setValue("lombok");
+
+        Xpp3Dom lombokPath = new Xpp3Dom("path");
+        lombokPath.addChild(lombokPathGroupId);
+        lombokPath.addChild(lombokPathArtifactId);
+        lombokPath.addChild(latestVersion);
+
+        Xpp3Dom mapstructPathGroupId = new Xpp3Dom("groupId");
+        mapstructPathGroupId.setValue("org.mapstruct");
+
+        Xpp3Dom mapstructPathArtifactId = new Xpp3Dom("artifactId");
+        mapstructPathArtifactId.setValue("mapstruct-processor");
+
+        Xpp3Dom mapstructPath = new Xpp3Dom("path");
+        mapstructPath.addChild(mapstructPathGroupId);
+        mapstructPath.addChild(mapstructPathArtifactId);
+        mapstructPath.addChild(latestVersion);
+
+        Xpp3Dom annotationProcessorPaths = new Xpp3Dom("annotationProcessorPaths");
+        annotationProcessorPaths.addChild(lombokPath);
+        annotationProcessorPaths.addChild(mapstructPath);
+
+        Xpp3Dom source = new Xpp3Dom("source");
+        source.setValue("11");
+
+        Xpp3Dom target = new Xpp3Dom("target");
+        target.setValue("11");
+
+        Xpp3Dom mavenCompilerConfig = new Xpp3Dom("configuration");
+        mavenCompilerConfig.addChild(source);
+        mavenCompilerConfig.addChild(target);
+        mavenCompilerConfig.addChild(annotationProcessorPaths);
+
+        Plugin mavenCompilerPlugin = new Plugin();
+        mavenCompilerPlugin.setGroupId("org.apache.maven.plugins");
+        mavenCompilerPlugin.setArtifactId("maven-compiler-plugin");
+        mavenCompilerPlugin.setVersion("3.8.1");
+        mavenCompilerPlugin.setConfiguration(mavenCompilerConfig);
+        plugins.add(mavenCompilerPlugin);
+
+        return plugins;
+    }
+
+    private List<Dependency> createCacheDependencies() {
+        Dependency springCache = new Dependency();
+        springCache.setGroupId("org.springframework.boot");
+        springCache.setArtifactId("spring-boot-starter-cache");
+
+        //Version managed by the Spring Boot parent
+        Dependency caffeine = new Dependency();
+        caffeine.setGroupId("com.github.ben-manes.caffeine");
+        caffeine.setArtifactId("caffeine");
+
+        return List.of(springCache, caffeine);
+    }
+
+    private List<Dependency> createPomDependencies(Database database, boolean reactive) {
+        List<Dependency> dependencies = new ArrayList<>();
+
+        switch (database) {
+            case MONGODB:
+                Dependency dataMongodb = new Dependency();
+                dataMongodb.setGroupId("org.springframework.boot");
+                dataMongodb.setArtifactId(reactive ? "spring-boot-starter-data-mongodb-reactive" : "spring-boot-starter-data-mongodb");
+                dependencies.add(dataMongodb);
+                break;
+            case ELASTICSEARCH:
+                //The reactive repositories use the WebClient of spring-boot-starter-webflux
+                Dependency dataElasticsearch = new Dependency();
+                dataElasticsearch.setGroupId("org.springframework.data");
+                dataElasticsearch.setArtifactId("spring-data-elasticsearch");
+                dependencies.add(dataElasticsearch);
+                break;
+            default:
+                if (reactive) {
+                    Dependency dataR2dbc = new Dependency();
+                    dataR2dbc.setGroupId("org.springframework.boot");
+                    dataR2dbc.setArtifactId("spring-boot-starter-data-r2dbc");
+                    dependencies.add(dataR2dbc);
+
+                    Dependency r2dbcMysql = new Dependency();
+                    r2dbcMysql.setGroupId("dev.miku");
+                    r2dbcMysql.setArtifactId("r2dbc-mysql");
+                    r2dbcMysql.setScope("runtime");
+                    dependencies.add(r2dbcMysql);
+                    break;
+                }
+
+                Dependency dataJpa = new Dependency();
+                dataJpa.setGroupId("org.springframework.boot");
+                dataJpa.setArtifactId("spring-boot-starter-data-jpa");
+                dependencies.add(dataJpa);
+
+                Dependency dataJdbc = new Dependency();
+                dataJdbc.setGroupId("org.springframework.boot");
+                dataJdbc.setArtifactId("spring-boot-starter-data-jdbc");
+                dependencies.add(dataJdbc);
+
+                Dependency mysql = new Dependency();
+                mysql.setGroupId("mysql");
+                mysql.setArtifactId("mysql-connector-java");
+                mysql.setScope("runtime");
+                dependencies.add(mysql);
+                break;
+        }
+
+        Dependency springWeb = new Dependency();
+        springWeb.setGroupId("org.springframework.boot");
+        springWeb.setArtifactId(reactive ? "spring-boot-starter-webflux" : "spring-boot-starter-web");
+        dependencies.add(springWeb);
+
+        Dependency springStarter = new Dependency();
+        springStarter.setGroupId("org.springframework.boot");
+        springStarter.setArtifactId("spring-boot-starter");
+        dependencies.add(springStarter);
+
+        Dependency lombok = new Dependency();
+        lombok.setGroupId("org.projectlombok");
+        lombok.setArtifactId("lombok");
+        dependencies.add(lombok);
+
+        Dependency mapstruct = new Dependency();
+        mapstruct.setGroupId("org.mapstruct");
+        mapstruct.setArtifactId("mapstruct");
+        mapstruct.setVersion("LATEST");
+        dependencies.add(mapstruct);
+
+        Dependency springTest = new Dependency();
+        springTest.setGroupId("org.springframework.boot");
+        springTest.setArtifactId("spring-boot-starter-test");
+        springTest.setScope("test");
+        dependencies.add(springTest);
+
+        return dependencies;
+    }
+}
@@ -0,0 +1,87 @@
+package com.crudfy.services;
+
+import com.crudfy.domains.resources.ComponentResource;
+import com.crudfy.domains.resources.Entity;
+import com.crudfy.services.cache.GenerationCache;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * Timers and counters of the generation, tagged by project structure, database and engine.
+ */
+@Component
+public class GenerationMetrics {
+
+    public static final String GENERATION = "crudfy.generation";
+    public static final String PHASE = "crudfy.generation.phase";
+    public static final String BUILDER = "crudfy.generation.builder";
+    public static final String ENTITIES = "crudfy.generation.entities";
+    public static final String FIELDS = "crudfy.generation.fields";
+    public static final String FILES = "crudfy.generation.files";
+    public static final String BYTES = "crudfy.generation.bytes";
+    public static final String CACHE_REQUESTS = "crudfy.cache.requests";
+    public static final String CACHE_EVICTIONS = "crudfy.cache.evictions";
+    public static final String CACHE_SIZE = "crudfy.cache.size";
+    public static final String CACHE_ENTRIES = "crudfy.cache.entries";
+
+    @Autowired
+    private MeterRegistry registry;
+
+    public static Tags tags(ComponentResource resource) {
+        return Tags.of("structure", String.valueOf(resource.getProjectStructure()),
+                "database", String.valueOf(resource.getDatabase()),
+                "engine", String.valueOf(resource.getEngine()));
+    }
+
+    public Timer.Sample start() {
+        return Timer.start(registry);
+    }
+
+    public void stopGeneration(Timer.Sample sample, Tags tags, String output, boolean success) {
+        sample.stop(registry.timer(GENERATION, tags.and("output", output, "outcome", success ? "success" : "failure")));
+    }
+
+    public void stopPhase(Timer.Sample sample, Tags tags, String phase) {
+        sample.stop(registry.timer(PHASE, tags.and("phase", phase)));
+    }
+
+    public void recordPhase(Tags tags, String phase, Runnable action) {
+        registry.timer(PHASE, tags.and("phase", phase)).record(action);
+    }
+
+    public void recordBuilder(Tags tags, String builder, Runnable action) {
+        registry.timer(BUILDER, tags.and("builder", builder)).record(action);
+    }
+
+    public void countEntities(Tags tags, List<Entity> entities) {
+        registry.counter(ENTITIES, tags).increment(entities.size());
+        registry.counter(FIELDS, tags).increment(entities.stream().mapToInt(entity -> entity.getFields().size()).sum());
+    }
+
+    public void countFiles(Tags tags, String result, long files) {
+        registry.counter(FILES, tags.and("result", result)).increment(files);
+    }
+
+    public void countBytes(Tags tags, long bytes) {
+        registry.counter(BYTES, tags).increment(bytes);
+    }
+
+    public void countCacheRequest(Tags tags, boolean hit) {
+        registry.counter(CACHE_REQUESTS, tags.and("result", hit ? "hit" : "miss")).increment();
+    }
+
+    public void countCacheEviction() {
+        registry.counter(CACHE_EVICTIONS).increment();
+    }
+
+    public void registerCache(GenerationCache cache) {
+        Gauge.builder(CACHE_SIZE, cache, GenerationCache::getSize).baseUnit("bytes").register(registry);
+        Gauge.builder(CACHE_ENTRIES, cache, GenerationCache::getEntries).register(registry);
+    }
+}
@@ -0,0 +1,78 @@
+package com.crudfy.services.builders;
+
+import com.crudfy.services.GenerationMetrics;
+import com.crudfy.services.utils.SourcePrinter;
+import com.github.javaparser.ast.CompilationUnit;
+import com.github.javaparser.ast.body.ClassOrInterfaceDeclaration;
+import com.github.javaparser.ast.expr.NormalAnnotationExpr;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+
+public abstract class ClassOrInterfaceBuilder {
+
+    @Autowired
+    private SourcePrinter sourcePrinter;
+
+    @Autowired
+    private GenerationMetrics metrics;
+
+    public ClassOrInterfaceContext initialize(String packagePath, String classOrInterfaceName, boolean isInterface) {
+        CompilationUnit compilationUnit = new CompilationUnit();
+        compilationUnit.setPackageDeclaration(packagePath);
+        if (isInterface) {
+            compilationUnit.addInterface(classOrInterfaceName).setPublic(true);
+        } else {
+            compilationUnit.addClass(classOrInterfaceName).setPublic(true);
+        }
+        return new ClassOrInterfaceContext(compilationUnit, classOrInterfaceName, isInterface);
+    }
+
+    public void addImports(ClassOrInterfaceContext classContext, List<String> imports) {
+        imports.forEach(classContext.getCompilationUnit()::addImport);
+    }
+
+    public void addAnnotations(ClassOrInterfaceContext classContext, List<String> annotations) {
+        ClassOrInterfaceDeclaration classOrInterface = classContext.getClassOrInterface();
+
+        annotations.forEach(classOrInterface::addAnnotation);
+    }
+
+    public void addAnnotation(ClassOrInterfaceContext classContext, String name) {
+        ClassOrInterfaceDeclaration classOrInterface = classContext.getClassOrInterface();
+
+        NormalAnnotationExpr annotation = new NormalAnnotationExpr();
+        annotation.setName(name);
+        classOrInterface.addAnnotation(annotation);
+    }
+
+    public void addAnnotation(ClassOrInterfaceContext classContext, String name, Map<String, String> params) {
+        ClassOrInterfaceDeclaration classOrInterface = classContext.getClassOrInterface();
+
+        NormalAnnotationExpr annotation = new NormalAnnotationExpr();
+        if (params != null) {
+            params.forEach((param,value) -> annotation.addPair(param, value));
+        }
+        annotation.setName(name);
+
+        classOrInterface.addAnnotation(annotation);
+    }
+
+    public void write(GenerationContext context, ClassOrInterfaceContext classContext, String path, String errorMessage) {
+        try {
+            //File Writing, the write time includes the printing
+            Timer.Sample write = metrics.start();
+            context.getSink().write(String.format("%s/%s.java", path, classContext.getClassOrInterfaceName()), writer -> {
+                Timer.Sample print = metrics.start();
+                sourcePrinter.print(classContext.getCompilationUnit(), writer);
+                metrics.stopPhase(print, context.getMetricTags(), "print");
+            });
+            metrics.stopPhase(write, context.getMetricTags(), "write");
+        } catch (IOException e) {
+            throw new RuntimeException(errorMessage, e);
+        }
+    }
+}
@@ -0,0 +1,25 @@
+package com.crudfy.services.builders;
+
+import com.github.javaparser.ast.CompilationUnit;
+import com.github.javaparser.ast.body.ClassOrInterfaceDeclaration;
+import lombok.Getter;
+
+@Getter
+public class ClassOrInterfaceContext {
+
+    private final CompilationUnit compilationUnit;
+    private final String classOrInterfaceName;
+    private final boolean isInterface;
+
+    public ClassOrInterfaceContext(CompilationUnit compilationUnit, String classOrInterfaceName, boolean isInterface) {
+        this.compilationUnit = compilationUnit;
+        this.classOrInterfaceName = classOrInterfaceName;
+        this.isInterface = isInterface;
+    }
+
+    public ClassOrInterfaceDeclaration getClassOrInterface() {
+        return isInterface ?
+                compilationUnit.getInterfaceByName(classOrInterfaceName).get() :
+                compilationUnit.getClassByName(classOrInterfaceName).get();
+    }
+}
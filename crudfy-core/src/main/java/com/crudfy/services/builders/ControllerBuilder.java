@@ -0,0 +1,512 @@
+package com.crudfy.services.builders;
+
+import com.crudfy.domains.resources.Entity;
+import com.crudfy.domains.resources.Field;
+import com.crudfy.services.utils.ArgumentUtils;
+import com.crudfy.services.utils.EntityNames;
+import com.crudfy.services.utils.TypeUtils;
+import com.github.javaparser.ast.Modifier;
+import com.github.javaparser.ast.body.ClassOrInterfaceDeclaration;
+import com.github.javaparser.ast.body.MethodDeclaration;
+import com.github.javaparser.ast.body.Parameter;
+import com.github.javaparser.ast.body.VariableDeclarator;
+import com.github.javaparser.ast.expr.BinaryExpr;
+import com.github.javaparser.ast.expr.BooleanLiteralExpr;
+import com.github.javaparser.ast.expr.ConditionalExpr;
+import com.github.javaparser.ast.expr.Expression;
+import com.github.javaparser.ast.expr.IntegerLiteralExpr;
+import com.github.javaparser.ast.expr.LambdaExpr;
+import com.github.javaparser.ast.expr.FieldAccessExpr;
+import com.github.javaparser.ast.expr.MethodCallExpr;
+import com.github.javaparser.ast.expr.MethodReferenceExpr;
+import com.github.javaparser.ast.expr.NameExpr;
+import com.github.javaparser.ast.expr.NormalAnnotationExpr;
+import com.github.javaparser.ast.expr.NullLiteralExpr;
+import com.github.javaparser.ast.expr.ObjectCreationExpr;
+import com.github.javaparser.ast.expr.StringLiteralExpr;
+import com.github.javaparser.ast.expr.TypeExpr;
+import com.github.javaparser.ast.expr.VariableDeclarationExpr;
+import com.github.javaparser.ast.stmt.BlockStmt;
+import com.github.javaparser.ast.stmt.IfStmt;
+import com.github.javaparser.ast.stmt.ReturnStmt;
+import com.github.javaparser.ast.type.ClassOrInterfaceType;
+import com.github.javaparser.ast.type.UnknownType;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+
+import java.util.Arrays;
+import java.util.List;
+
+@Service
+public class ControllerBuilder extends ClassOrInterfaceBuilder{
+
+    @Autowired
+    private TypeUtils typeUtils;
+
+    @Autowired
+    private ArgumentUtils argumentUtils;
+
+    @Autowired
+    private DomainFields domainFields;
+
+    public void buildController(GenerationContext context, EntityNames names, Entity entity) {
+
+        String className = names.getControllerClassName();
+        ClassOrInterfaceContext classContext = initialize(names.getControllerPackage(), className, false);
+        ClassOrInterfaceDeclaration controllerClass = classContext.getClassOrInterface();
+
+        if (context.isReactive()) {
+            addImports(classContext, Arrays.asList(
+                    names.getResourceImportPath(),
+                    names.getResponseImportPath(),
+                    names.getServiceImportPath(),
+                    "org.springframework.beans.factory.annotation.Autowired",
+                    "org.springframework.web.bind.annotation.*",
+                    "org.springframework.http.ResponseEntity",
+                    "org.springframework.http.HttpStatus",
+                    "reactor.core.publisher.Flux",
+                    "reactor.core.publisher.Mono",
+                    "org.springframework.data.domain.Pageable",
+                    "org.springframework.data.web.PageableDefault"
+                    ));
+        } else {
+            addImports(classContext, Arrays.asList(
+                    names.getResourceImportPath(),
+                    names.getResponseImportPath(),
+                    names.getServiceImportPath(),
+                    "org.springframework.beans.factory.annotation.Autowired",
+                    "org.springframework.web.bind.annotation.*",
+                    "org.springframework.stereotype.Controller",
+                    "org.springframework.http.ResponseEntity",
+                    "org.springframework.http.HttpStatus",
+                    "java.util.Optional",
+                    "java.util.List",
+                    "org.springframework.data.domain.Pageable",
+                    "org.springframework.data.web.PageableDefault"
+                    ));
+        }
+        Field cursor = domainFields.getCursorField(context, entity.getFields());
+        Field id = domainFields.getIdField(entity.getFields());
+        String idType = domainFields.getIdType(context, id);
+        addImports(classContext, domainFields.getIdImports(context, id));
+        if (entity.isExport()) {
+            addImports(classContext, context.isReactive() ? Arrays.asList("org.springframework.http.MediaType") : Arrays.asList(
+                    "org.springframework.http.MediaType",
+                    "org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody"));
+        }
+
+        if (entity.isBatch()) {
+            addImports(classContext, Arrays.asList(names.getBatchResultImportPath()));
+        }
+
+        addControllerAnnotations(context, controllerClass, names);
+        addFields(controllerClass, names);
+        if (context.isReactive()) {
+            addReactiveMethods(context, controllerClass, names, idType, cursor, entity.isExport());
+        } else {
+            addMethods(context, controllerClass, names, idType, cursor, entity.isExport());
+        }
+        if (entity.isBatch()) {
+            addBatchMethods(controllerClass, names, idType);
+        }
+
+        write(context, classContext, names.getControllerPath(), "Erro na escrita da classe Controller");
+    }
+
+    private void addControllerAnnotations(GenerationContext context, ClassOrInterfaceDeclaration controllerClass, EntityNames names) {
+        //The Mono and Flux of the reactive controllers are the response bodies, not views
+        controllerClass.addAnnotation(context.isReactive() ? "RestController" : "Controller");
+        controllerClass.addSingleMemberAnnotation("RequestMapping", "\"/" + names.getEntityVariableName() + "\"");
+    }
+
+    private void addFields(ClassOrInterfaceDeclaration controllerClass, EntityNames names) {
+
+        controllerClass.addPrivateField(names.getServiceClassName(), names.getServiceVariableName()).addAnnotation("Autowired");
+    }
+
+    private void addMethods(GenerationContext context, ClassOrInterfaceDeclaration controllerClass, EntityNames names, String idType,
+                            Field cursor, boolean export) {
+        addFindMethod(controllerClass, names, idType);
+        addFindAllMethod(context, controllerClass, names, cursor);
+        if (export) {
+            addExportMethod(controllerClass, names);
+        }
+        addCreateMethod(controllerClass, names);
+        addUpdateMethod(controllerClass, names, idType);
+        addDeleteMethod(controllerClass, names, idType);
+    }
+
+    private void addReactiveMethods(GenerationContext context, ClassOrInterfaceDeclaration controllerClass, EntityNames names, String idType,
+                                    Field cursor, boolean export) {
+        addReactiveFindMethod(controllerClass, names, idType);
+        addReactiveFindAllMethod(context, controllerClass, names, cursor);
+        if (export) {
+            addReactiveExportMethod(controllerClass, names);
+        }
+        addReactiveCreateMethod(context, controllerClass, names);
+        addReactiveUpdateMethod(controllerClass, names, idType);
+        addReactiveDeleteMethod(controllerClass, names, idType);
+    }
+
+    private void addFindMethod(ClassOrInterfaceDeclaration controllerClass, EntityNames names, String idType) {
+
+        String responseVariableName = names.getResponseVariableName();
+        ClassOrInterfaceType optionalResponse = typeUtils.getClassOrInterfaceType(String.format("Optional<%s>", names.getResponseClassName()));
+
+        VariableDeclarator responseDeclaration = new VariableDeclarator(
+                optionalResponse,
+                responseVariableName,
+                new MethodCallExpr(new NameExpr(names.getServiceVariableName()), "find", argumentUtils.buildNameArgument("id")));
+
+        MethodCallExpr getExpr = new MethodCallExpr(new NameExpr(responseVariableName), "get");
+        MethodCallExpr isPresent = new MethodCallExpr(new NameExpr(responseVariableName), "isPresent");
+        ReturnStmt returnOk = new ReturnStmt(new ObjectCreationExpr()
+                .setType(typeUtils.getResponseEntityType(""))
+                .setArguments(argumentUtils.buildStatusArgument(getExpr, "OK")));
+        ReturnStmt returnNotFound = new ReturnStmt(new ObjectCreationExpr()
+                .setType(typeUtils.getResponseEntityType(""))
+                .setArguments(argumentUtils.buildEmptyStatusArgument("NOT_FOUND")));
+
+        BlockStmt blockStmt = new BlockStmt();
+        blockStmt.addStatement(new VariableDeclarationExpr(responseDeclaration));
+        blockStmt.addStatement(new IfStmt(isPresent, returnOk, returnNotFound));
+
+        MethodDeclaration findMethod = controllerClass.addMethod("find", Modifier.Keyword.PUBLIC);
+        findMethod.setType(typeUtils.getResponseEntityType(names.getResponseClassName()));
+        findMethod.addSingleMemberAnnotation("GetMapping", "\"/{id}\"" );
+        findMethod.addParameter(buildIdParameter(idType));
+        findMethod.setBody(blockStmt);
+    }
+
+    private void addFindAllMethod(GenerationContext context, ClassOrInterfaceDeclaration controllerClass, EntityNames names, Field cursor) {
+
+        String responseListVariableName = names.getResponseListVariableName();
+        ClassOrInterfaceType responseList = typeUtils.getClassOrInterfaceType(String.format("List<%s>", names.getResponseClassName()));
+
+        VariableDeclarator responseListDeclaration = new VariableDeclarator(
+                responseList,
+                responseListVariableName,
+                buildFindAllExpr(names, cursor));
+
+        MethodCallExpr isEmpty = new MethodCallExpr(new NameExpr(responseListVariableName), "isEmpty");
+        ReturnStmt returnOk = new ReturnStmt(new ObjectCreationExpr()
+                .setType(typeUtils.getResponseEntityType(""))
+                .setArguments(argumentUtils.buildStatusArgument(new NameExpr(responseListVariableName), "OK")));
+        ReturnStmt returnNoContent = new ReturnStmt(new ObjectCreationExpr()
+                .setType(typeUtils.getResponseEntityType(""))
+                .setArguments(argumentUtils.buildEmptyStatusArgument("NO_CONTENT")));
+
+        BlockStmt blockStmt = new BlockStmt();
+        blockStmt.addStatement(new VariableDeclarationExpr(responseListDeclaration));
+        blockStmt.addStatement(new IfStmt(isEmpty, returnNoContent, returnOk));
+
+        MethodDeclaration findAllMethod = controllerClass.addMethod("findAll", Modifier.Keyword.PUBLIC);
+        findAllMethod.setType(typeUtils.getResponseEntityType(String.format("List<%s>", names.getResponseClassName())));
+        findAllMethod.addAnnotation("GetMapping");
+        findAllMethod.addParameter(buildPageableParameter(context, cursor));
+        if (cursor != null) {
+            findAllMethod.addParameter(buildAfterParameter(context, cursor));
+        }
+        findAllMethod.setBody(blockStmt);
+    }
+
+    private Expression buildFindAllExpr(EntityNames names, Field cursor) {
+
+        //Offset pages, or keyset pages when a cursor is given
+        Expression findAllExpr = new MethodCallExpr(new NameExpr(names.getServiceVariableName()), "findAll",
+                argumentUtils.buildNameArgument("pageable"));
+        if (cursor != null) {
+            MethodCallExpr findAllAfterExpr = new MethodCallExpr(new NameExpr(names.getServiceVariableName()), "findAllAfter",
+                    argumentUtils.buildArguments(new NameExpr("after"), new NameExpr("pageable")));
+            findAllExpr = new ConditionalExpr(new BinaryExpr(new NameExpr("after"), new NullLiteralExpr(), BinaryExpr.Operator.EQUALS),
+                    findAllExpr, findAllAfterExpr);
+        }
+        return findAllExpr;
+    }
+
+    private void addExportMethod(ClassOrInterfaceDeclaration controllerClass, EntityNames names) {
+
+        //The service writes the rows while the response is sent, outside of the request thread
+        MethodCallExpr okExpr = new MethodCallExpr(new NameExpr("ResponseEntity"), "ok");
+        MethodCallExpr contentTypeExpr = new MethodCallExpr(okExpr, "contentType",
+                argumentUtils.buildArguments(new FieldAccessExpr(new NameExpr("MediaType"), "APPLICATION_NDJSON")));
+        MethodCallExpr bodyExpr = new MethodCallExpr(contentTypeExpr, "body",
+                argumentUtils.buildArguments(new MethodReferenceExpr(new NameExpr(names.getServiceVariableName()), null, "export")));
+
+        BlockStmt blockStmt = new BlockStmt();
+        blockStmt.addStatement(new ReturnStmt(bodyExpr));
+
+        MethodDeclaration exportMethod = controllerClass.addMethod("export", Modifier.Keyword.PUBLIC);
+        exportMethod.setType(typeUtils.getResponseEntityType("StreamingResponseBody"));
+        exportMethod.addSingleMemberAnnotation("GetMapping", "\"/export\"");
+        exportMethod.setBody(blockStmt);
+    }
+
+    private void addCreateMethod(ClassOrInterfaceDeclaration controllerClass, EntityNames names) {
+
+        MethodCallExpr saveExpr = new MethodCallExpr(new NameExpr(names.getServiceVariableName()), "save", argumentUtils.buildNameArgument(names.getResourceVariableName()));
+        ReturnStmt returnCreated = new ReturnStmt(new ObjectCreationExpr()
+                .setType(typeUtils.getResponseEntityType(""))
+                .setArguments(argumentUtils.buildStatusArgument(saveExpr, "CREATED")));
+
+        BlockStmt blockStmt = new BlockStmt();
+        blockStmt.addStatement(returnCreated);
+
+        MethodDeclaration createMethod = controllerClass.addMethod("create", Modifier.Keyword.PUBLIC);
+        createMethod.setType(typeUtils.getClassOrInterfaceType("ResponseEntity"));
+        createMethod.addAnnotation("PostMapping");
+        createMethod.addParameter(buildResourceParameter(names));
+        createMethod.setBody(blockStmt);
+    }
+
+    private void addUpdateMethod(ClassOrInterfaceDeclaration controllerClass, EntityNames names, String idType) {
+
+        MethodCallExpr saveExpr = new MethodCallExpr(new NameExpr(names.getServiceVariableName()), "save", argumentUtils.buildNameArgument(names.getResourceVariableName()));
+        MethodCallExpr findExpr =  new MethodCallExpr(new NameExpr(names.getServiceVariableName()), "find", argumentUtils.buildNameArgument("id"));
+        MethodCallExpr isPresent = new MethodCallExpr(findExpr, "isPresent");
+        ReturnStmt returnOk = new ReturnStmt(new ObjectCreationExpr()
+                .setType(typeUtils.getResponseEntityType(""))
+                .setArguments(argumentUtils.buildStatusArgument(saveExpr, "OK")));
+        ReturnStmt returnNotFound = new ReturnStmt(new ObjectCreationExpr()
+                .setType(typeUtils.getResponseEntityType(""))
+                .setArguments(argumentUtils.buildEmptyStatusArgument("NOT_FOUND")));
+
+        BlockStmt blockStmt = new BlockStmt();
+        blockStmt.addStatement(new IfStmt(isPresent, returnOk, returnNotFound));
+
+        MethodDeclaration updateMethod = controllerClass.addMethod("update", Modifier.Keyword.PUBLIC);
+        updateMethod.setType(typeUtils.getClassOrInterfaceType("ResponseEntity"));
+        updateMethod.addSingleMemberAnnotation("PutMapping", "\"/{id}\"" );
+        updateMethod.addParameter(buildIdParameter(idType));
+        updateMethod.addParameter(buildResourceParameter(names));
+        updateMethod.setBody(blockStmt);
+    }
+
+    private void addDeleteMethod(ClassOrInterfaceDeclaration controllerClass, EntityNames names, String idType) {
+
+        MethodCallExpr deleteExpr = new MethodCallExpr(new NameExpr(names.getServiceVariableName()), "delete", argumentUtils.buildNameArgument("id"));
+        ReturnStmt returnNoContent = new ReturnStmt(new ObjectCreationExpr()
+                .setType(typeUtils.getResponseEntityType(""))
+                .setArguments(argumentUtils.buildEmptyStatusArgument("NO_CONTENT")));
+
+        BlockStmt blockStmt = new BlockStmt();
+        blockStmt.addStatement(deleteExpr);
+        blockStmt.addStatement(returnNoContent);
+
+        MethodDeclaration deleteMethod = controllerClass.addMethod("delete", Modifier.Keyword.PUBLIC);
+        deleteMethod.setType(typeUtils.getClassOrInterfaceType("ResponseEntity"));
+        deleteMethod.addSingleMemberAnnotation("DeleteMapping", "\"/{id}\"" );
+        deleteMethod.addParameter(buildIdParameter(idType));
+        deleteMethod.setBody(blockStmt);
+    }
+
+    private void addBatchMethods(ClassOrInterfaceDeclaration controllerClass, EntityNames names, String idType) {
+
+        //Every item has its own status in the results, the request itself is always OK
+        //The update checks that the entities exist, so its status is set by the service
+        addSaveAllMethod(controllerClass, names, "createAll", "PostMapping", "saveAll", "CREATED");
+        addSaveAllMethod(controllerClass, names, "updateAll", "PutMapping", "updateAll", null);
+
+        MethodCallExpr deleteAllExpr = new MethodCallExpr(new NameExpr(names.getServiceVariableName()), "deleteAll",
+                argumentUtils.buildNameArgument("ids"));
+        BlockStmt blockStmt = new BlockStmt();
+        blockStmt.addStatement(new ReturnStmt(new ObjectCreationExpr()
+                .setType(typeUtils.getResponseEntityType(""))
+                .setArguments(argumentUtils.buildStatusArgument(deleteAllExpr, "OK"))));
+
+        Parameter idsParameter = new Parameter();
+        idsParameter.setType(typeUtils.getClassOrInterfaceType(String.format("List<%s>", idType)));
+        idsParameter.setName("ids");
+        idsParameter.addAnnotation("RequestBody");
+
+        MethodDeclaration deleteAllMethod = controllerClass.addMethod("deleteAll", Modifier.Keyword.PUBLIC);
+        deleteAllMethod.setType(typeUtils.getResponseEntityType(String.format("List<%s>", names.getBatchResultClassName())));
+        deleteAllMethod.addSingleMemberAnnotation("DeleteMapping", "\"/batch\"");
+        deleteAllMethod.addParameter(idsParameter);
+        deleteAllMethod.setBody(blockStmt);
+    }
+
+    private void addSaveAllMethod(ClassOrInterfaceDeclaration controllerClass, EntityNames names, String methodName, String mapping,
+                                  String serviceMethod, String itemStatus) {
+
+        String resourceListVariableName = names.getResourceListVariableName();
+        MethodCallExpr saveAllExpr = new MethodCallExpr(new NameExpr(names.getServiceVariableName()), serviceMethod,
+                argumentUtils.buildNameArgument(resourceListVariableName));
+        if (itemStatus != null) {
+            saveAllExpr.addArgument(new MethodCallExpr(new FieldAccessExpr(new NameExpr("HttpStatus"), itemStatus), "value"));
+        }
+        BlockStmt blockStmt = new BlockStmt();
+        blockStmt.addStatement(new ReturnStmt(new ObjectCreationExpr()
+                .setType(typeUtils.getResponseEntityType(""))
+                .setArguments(argumentUtils.buildStatusArgument(saveAllExpr, "OK"))));
+
+        Parameter listParameter = new Parameter();
+        listParameter.setType(typeUtils.getClassOrInterfaceType(String.format("List<%s>", names.getResourceClassName())));
+        listParameter.setName(resourceListVariableName);
+        listParameter.addAnnotation("RequestBody");
+
+        MethodDeclaration saveAllMethod = controllerClass.addMethod(methodName, Modifier.Keyword.PUBLIC);
+        saveAllMethod.setType(typeUtils.getResponseEntityType(String.format("List<%s>", names.getBatchResultClassName())));
+        saveAllMethod.addSingleMemberAnnotation(mapping, "\"/batch\"");
+        saveAllMethod.addParameter(listParameter);
+        saveAllMethod.setBody(blockStmt);
+    }
+
+    private void addReactiveFindMethod(ClassOrInterfaceDeclaration controllerClass, EntityNames names, String idType) {
+
+        MethodCallExpr findExpr = new MethodCallExpr(new NameExpr(names.getServiceVariableName()), "find", argumentUtils.buildNameArgument("id"));
+
+        BlockStmt blockStmt = new BlockStmt();
+        blockStmt.addStatement(new ReturnStmt(buildOkOrNotFound(findExpr)));
+
+        MethodDeclaration findMethod = controllerClass.addMethod("find", Modifier.Keyword.PUBLIC);
+        findMethod.setType(typeUtils.getClassOrInterfaceType(String.format("Mono<ResponseEntity<%s>>", names.getResponseClassName())));
+        findMethod.addSingleMemberAnnotation("GetMapping", "\"/{id}\"" );
+        findMethod.addParameter(buildIdParameter(idType));
+        findMethod.setBody(blockStmt);
+    }
+
+    private void addReactiveFindAllMethod(GenerationContext context, ClassOrInterfaceDeclaration controllerClass, EntityNames names, Field cursor) {
+
+        //The page is sent as a JSON array, an empty page is an empty array
+        BlockStmt blockStmt = new BlockStmt();
+        blockStmt.addStatement(new ReturnStmt(buildFindAllExpr(names, cursor)));
+
+        MethodDeclaration findAllMethod = controllerClass.addMethod("findAll", Modifier.Keyword.PUBLIC);
+        findAllMethod.setType(typeUtils.getClassOrInterfaceType(String.format("Flux<%s>", names.getResponseClassName())));
+        findAllMethod.addAnnotation("GetMapping");
+        findAllMethod.addParameter(buildPageableParameter(context, cursor));
+        if (cursor != null) {
+            findAllMethod.addParameter(buildAfterParameter(context, cursor));
+        }
+        findAllMethod.setBody(blockStmt);
+    }
+
+    private void addReactiveExportMethod(ClassOrInterfaceDeclaration controllerClass, EntityNames names) {
+
+        //WebFlux writes every element of the Flux as a JSON line while the next ones are read
+        NormalAnnotationExpr getMapping = new NormalAnnotationExpr();
+        getMapping.setName("GetMapping");
+        getMapping.addPair("value", new StringLiteralExpr("/export"));
+        getMapping.addPair("produces", new FieldAccessExpr(new NameExpr("MediaType"), "APPLICATION_NDJSON_VALUE"));
+
+        BlockStmt blockStmt = new BlockStmt();
+        blockStmt.addStatement(new ReturnStmt(new MethodCallExpr(new NameExpr(names.getServiceVariableName()), "export")));
+
+        MethodDeclaration exportMethod = controllerClass.addMethod("export", Modifier.Keyword.PUBLIC);
+        exportMethod.setType(typeUtils.getClassOrInterfaceType(String.format("Flux<%s>", names.getResponseClassName())));
+        exportMethod.addAnnotation(getMapping);
+        exportMethod.setBody(blockStmt);
+    }
+
+    private void addReactiveCreateMethod(GenerationContext context, ClassOrInterfaceDeclaration controllerClass, EntityNames names) {
+
+        String responseVariableName = names.getResponseVariableName();
+        MethodCallExpr saveExpr = new MethodCallExpr(new NameExpr(names.getServiceVariableName()), context.isR2dbc() ? "create" : "save", argumentUtils.buildNameArgument(names.getResourceVariableName()));
+        ObjectCreationExpr created = new ObjectCreationExpr()
+                .setType(typeUtils.getResponseEntityType(""))
+                .setArguments(argumentUtils.buildStatusArgument(new NameExpr(responseVariableName), "CREATED"));
+        MethodCallExpr mapExpr = new MethodCallExpr(saveExpr, "map",
+                argumentUtils.buildArguments(new LambdaExpr(new Parameter(new UnknownType(), responseVariableName), created)));
+
+        BlockStmt blockStmt = new BlockStmt();
+        blockStmt.addStatement(new ReturnStmt(mapExpr));
+
+        MethodDeclaration createMethod = controllerClass.addMethod("create", Modifier.Keyword.PUBLIC);
+        createMethod.setType(typeUtils.getClassOrInterfaceType(String.format("Mono<ResponseEntity<%s>>", names.getResponseClassName())));
+        createMethod.addAnnotation("PostMapping");
+        createMethod.addParameter(buildResourceParameter(names));
+        createMethod.setBody(blockStmt);
+    }
+
+    private void addReactiveUpdateMethod(ClassOrInterfaceDeclaration controllerClass, EntityNames names, String idType) {
+
+        //Saved only when the entity exists
+        MethodCallExpr findExpr = new MethodCallExpr(new NameExpr(names.getServiceVariableName()), "find", argumentUtils.buildNameArgument("id"));
+        MethodCallExpr saveExpr = new MethodCallExpr(new NameExpr(names.getServiceVariableName()), "save", argumentUtils.buildNameArgument(names.getResourceVariableName()));
+        MethodCallExpr flatMapExpr = new MethodCallExpr(findExpr, "flatMap",
+                argumentUtils.buildArguments(new LambdaExpr(new Parameter(new UnknownType(), "found"), saveExpr)));
+
+        BlockStmt blockStmt = new BlockStmt();
+        blockStmt.addStatement(new ReturnStmt(buildOkOrNotFound(flatMapExpr)));
+
+        MethodDeclaration updateMethod = controllerClass.addMethod("update", Modifier.Keyword.PUBLIC);
+        updateMethod.setType(typeUtils.getClassOrInterfaceType(String.format("Mono<ResponseEntity<%s>>", names.getResponseClassName())));
+        updateMethod.addSingleMemberAnnotation("PutMapping", "\"/{id}\"" );
+        updateMethod.addParameter(buildIdParameter(idType));
+        updateMethod.addParameter(buildResourceParameter(names));
+        updateMethod.setBody(blockStmt);
+    }
+
+    private void addReactiveDeleteMethod(ClassOrInterfaceDeclaration controllerClass, EntityNames names, String idType) {
+
+        MethodCallExpr deleteExpr = new MethodCallExpr(new NameExpr(names.getServiceVariableName()), "delete", argumentUtils.buildNameArgument("id"));
+        ObjectCreationExpr noContent = new ObjectCreationExpr()
+                .setType(typeUtils.getResponseEntityType(""))
+                .setArguments(argumentUtils.buildEmptyStatusArgument("NO_CONTENT"));
+        MethodCallExpr thenExpr = new MethodCallExpr(deleteExpr, "then",
+                argumentUtils.buildArguments(new MethodCallExpr(new NameExpr("Mono"), "just", argumentUtils.buildArguments(noContent))));
+
+        BlockStmt blockStmt = new BlockStmt();
+        blockStmt.addStatement(new ReturnStmt(thenExpr));
+
+        MethodDeclaration deleteMethod = controllerClass.addMethod("delete", Modifier.Keyword.PUBLIC);
+        deleteMethod.setType(typeUtils.getClassOrInterfaceType("Mono<ResponseEntity<Void>>"));
+        deleteMethod.addSingleMemberAnnotation("DeleteMapping", "\"/{id}\"" );
+        deleteMethod.addParameter(buildIdParameter(idType));
+        deleteMethod.setBody(blockStmt);
+    }
+
+    private MethodCallExpr buildOkOrNotFound(Expression responseExpr) {
+        MethodCallExpr okExpr = new MethodCallExpr(responseExpr, "map",
+                argumentUtils.buildArguments(new MethodReferenceExpr(new TypeExpr(typeUtils.getClassOrInterfaceType("ResponseEntity")), null, "ok")));
+        ObjectCreationExpr notFound = new ObjectCreationExpr()
+                .setType(typeUtils.getResponseEntityType(""))
+                .setArguments(argumentUtils.buildEmptyStatusArgument("NOT_FOUND"));
+        return new MethodCallExpr(okExpr, "defaultIfEmpty", argumentUtils.buildArguments(notFound));
+    }
+
+    private Parameter buildIdParameter(String idType) {
+        Parameter parameter = new Parameter();
+        parameter.setType(typeUtils.getType(idType));
+        parameter.setName("id");
+        parameter.addAnnotation("PathVariable");
+        return parameter;
+    }
+
+    private Parameter buildPageableParameter(GenerationContext context, Field cursor) {
+        NormalAnnotationExpr pageableDefault = new NormalAnnotationExpr();
+        pageableDefault.setName("PageableDefault");
+        pageableDefault.addPair("size", new IntegerLiteralExpr(String.valueOf(context.getDefaultPageSize())));
+        if (cursor != null) {
+            //A stable order, so offset pages do not skip or repeat rows
+            pageableDefault.addPair("sort", new StringLiteralExpr(cursor.getName()));
+        }
+
+        Parameter parameter = new Parameter();
+        parameter.setType(typeUtils.getClassOrInterfaceType("Pageable"));
+        parameter.setName("pageable");
+        parameter.addAnnotation(pageableDefault);
+        return parameter;
+    }
+
+    private Parameter buildAfterParameter(GenerationContext context, Field cursor) {
+        NormalAnnotationExpr requestParam = new NormalAnnotationExpr();
+        requestParam.setName("RequestParam");
+        requestParam.addPair("required", new BooleanLiteralExpr(false));
+
+        Parameter parameter = new Parameter();
+        parameter.setType(typeUtils.getType(domainFields.getCursorType(context, cursor)));
+        parameter.setName("after");
+        parameter.addAnnotation(requestParam);
+        return parameter;
+    }
+
+    private Parameter buildResourceParameter(EntityNames names) {
+        Parameter parameter = new Parameter();
+        parameter.setType(typeUtils.getClassOrInterfaceType(names.getResourceClassName()));
+        parameter.setName(names.getResourceVariableName());
+        parameter.addAnnotation("RequestBody");
+        return parameter;
+    }
+}
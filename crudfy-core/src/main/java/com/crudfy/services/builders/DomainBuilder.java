@@ -0,0 +1,172 @@
+package com.crudfy.services.builders;
+
+import com.crudfy.domains.resources.Database;
+import com.crudfy.domains.resources.DomainType;
+import com.crudfy.domains.resources.Field;
+import com.crudfy.services.utils.EntityNames;
+import com.crudfy.services.utils.TypeUtils;
+import com.github.javaparser.ast.Modifier;
+import com.github.javaparser.ast.body.ClassOrInterfaceDeclaration;
+import com.github.javaparser.ast.body.ConstructorDeclaration;
+import com.github.javaparser.ast.expr.AssignExpr;
+import com.github.javaparser.ast.expr.FieldAccessExpr;
+import com.github.javaparser.ast.expr.NameExpr;
+import com.github.javaparser.ast.expr.ThisExpr;
+import com.github.javaparser.ast.stmt.BlockStmt;
+import com.github.javaparser.ast.type.Type;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+
+import java.util.*;
+import java.util.stream.Collectors;
+
+@Service
+public class DomainBuilder extends ClassOrInterfaceBuilder{
+
+    @Autowired
+    private DomainFields domainFields;
+
+    @Autowired
+    private TypeUtils typeUtils;
+
+    public void buildResponse(GenerationContext context, EntityNames names, List<Field> fields) {
+
+        String className = names.getResponseClassName() ;
+        ClassOrInterfaceContext classContext = initialize(names.getDomainPackage(), className, false);
+
+        buildDomainClass(context, classContext, fields, DomainType.RESPONSE);
+
+        write(context, classContext, names.getDomainPath(), "Erro na escrita da classe Response");
+    }
+
+    public void buildResource(GenerationContext context, EntityNames names, List<Field> fields) {
+
+        String className = names.getResourceClassName();
+        ClassOrInterfaceContext classContext = initialize(names.getDomainPackage(), className, false);
+
+        buildDomainClass(context, classContext, fields, DomainType.RESOURCE);
+
+        write(context, classContext, names.getDomainPath(), "Erro na escrita da classe Resource");
+    }
+
+    /**
+     * Result of each item of the batch endpoints: its position in the request, its HTTP status and the error.
+     * The constructor is written out, the services call it and the compilation verification does not run Lombok.
+     */
+    public void buildBatchResult(GenerationContext context, EntityNames names) {
+
+        String className = names.getBatchResultClassName();
+        ClassOrInterfaceContext classContext = initialize(names.getDomainPackage(), className, false);
+        ClassOrInterfaceDeclaration resultClass = classContext.getClassOrInterface();
+
+        Map<String, String> fields = new LinkedHashMap<>();
+        fields.put("index", "int");
+        fields.put("status", "int");
+        fields.put("error", "String");
+
+        addImports(classContext, Arrays.asList("lombok.Data"));
+        addAnnotation(classContext, "Data");
+        fields.forEach((name, type) -> createField(resultClass, name, type));
+
+        BlockStmt blockStmt = new BlockStmt();
+        ConstructorDeclaration constructor = resultClass.addConstructor(Modifier.Keyword.PUBLIC);
+        fields.forEach((name, type) -> {
+            constructor.addParameter(typeUtils.getType(type), name);
+            blockStmt.addStatement(new AssignExpr(new FieldAccessExpr(new ThisExpr(), name), new NameExpr(name), AssignExpr.Operator.ASSIGN));
+        });
+        constructor.setBody(blockStmt);
+
+        write(context, classContext, names.getDomainPath(), "Erro na escrita da classe BatchResult");
+    }
+
+    public void buildEntity(GenerationContext context, EntityNames names, List<Field> fields) {
+
+        String className = names.getEntityClassName();
+        ClassOrInterfaceContext classContext = initialize(names.getDomainPackage(), className, false);
+        Database database = context.getDatabase();
+
+        switch (database) {
+            case MONGODB:
+                addImports(classContext, Arrays.asList(
+                        "org.springframework.data.mongodb.core.mapping.Document"
+                ));
+                addAnnotation(classContext, "Document", Map.of("value", "\"" + names.getEntityVariableName() + "\""));
+                break;
+            case ELASTICSEARCH:
+                addImports(classContext, Arrays.asList(
+                        "org.springframework.data.elasticsearch.annotations.Document"
+                ));
+                addAnnotation(classContext, "Document", Map.of("indexName", "\"" + names.getEntityVariableName() + "\""));
+                break;
+            default:
+                if (context.isReactive()) {
+                    addImports(classContext, Arrays.asList(
+                            "org.springframework.data.relational.core.mapping.Table"
+                    ));
+                    addAnnotation(classContext, "Table", Map.of("value", "\"" + names.getEntityVariableName() + "\""));
+                    break;
+                }
+                addImports(classContext, Arrays.asList(
+                        "javax.persistence.Entity"
+                ));
+                addAnnotation(classContext, "Entity");
+                break;
+        }
+        buildDomainClass(context, classContext, fields, DomainType.ENTITY);
+        addId(context, classContext, fields);
+
+        write(context, classContext, names.getDomainPath(), "Erro na escrita da classe Entity");
+    }
+
+    private void buildDomainClass(GenerationContext context, ClassOrInterfaceContext classContext, List<Field> fields, DomainType domainType) {
+        addImports(classContext, Arrays.asList(
+                "lombok.Data",
+                "lombok.AllArgsConstructor",
+                "lombok.NoArgsConstructor"
+        ));
+        addAnnotations(classContext, Arrays.asList(
+                "Data",
+                "AllArgsConstructor",
+                "NoArgsConstructor"
+        ));
+        addFields(context, classContext, fields, domainType);
+    }
+
+    private void addFields(GenerationContext context, ClassOrInterfaceContext classContext, List<Field> fields, DomainType domainType) {
+        ClassOrInterfaceDeclaration commonClass = classContext.getClassOrInterface();
+        List<String> imports = new ArrayList<>();
+        fields.forEach(field -> addField(context, commonClass, field, imports, domainType));
+        addImports(classContext, imports.stream()
+                .filter(Objects::nonNull)
+                .distinct()
+                .collect(Collectors.toList()));
+    }
+
+    private void addField(GenerationContext context, ClassOrInterfaceDeclaration commonClass, Field field, List<String> imports, DomainType domainType) {
+        createField(commonClass, field.getName(), domainFields.getType(context, field, domainType));
+        imports.addAll(domainFields.getImports(context, field, domainType));
+    }
+
+    private void createField(ClassOrInterfaceDeclaration commonClass, String name, String type) {
+        Type fieldType = typeUtils.getType(type);
+        commonClass.addField(fieldType, name, Modifier.Keyword.PRIVATE);
+    }
+
+    private void addId(GenerationContext context, ClassOrInterfaceContext classContext, List<Field> fields) {
+
+        Optional<Field> id = fields.stream().filter(Field::isId).findFirst();
+
+        if (id.isPresent()) {
+            if (!context.isJpa())  {
+                addImports(classContext, Arrays.asList(
+                        "org.springframework.data.annotation.Id"
+                ));
+            } else {
+                addImports(classContext, Arrays.asList(
+                        "javax.persistence.Id"
+                ));
+            }
+            classContext.getClassOrInterface().getFieldByName(id.get().getName()).get().addAnnotation("Id");
+        }
+    }
+}
@@ -0,0 +1,137 @@
+package com.crudfy.services.builders;
+
+import com.crudfy.domains.resources.Database;
+import com.crudfy.domains.resources.DomainType;
+import com.crudfy.domains.resources.Field;
+import com.crudfy.services.utils.EntityNames;
+import com.crudfy.services.utils.ImportsMapper;
+import com.crudfy.services.utils.TypeDescriptor;
+import com.crudfy.services.utils.TypeUtils;
+import com.github.javaparser.ast.type.Type;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Type and imports of a field in each domain class, shared by the AST and the template engines.
+ */
+@Component
+public class DomainFields {
+
+    @Autowired
+    private ImportsMapper mapper;
+
+    @Autowired
+    private TypeUtils typeUtils;
+
+    /**
+     * Type of the field in its canonical form, the way JavaParser prints it, e.g. {@code Map<String, List<Address>>}.
+     */
+    public String getType(GenerationContext context, Field field, DomainType domainType) {
+        //Every type of the tree that is not a library type is an entity of the project
+        return mapper.getDescriptor(field.getType()).render(type -> !field.isSubEntity() || mapper.isKnownType(type) ?
+                type : findSubEntityType(context, type, domainType));
+    }
+
+    /**
+     * Imports of the sub-entities first, then the library types, in the order they appear in the type.
+     */
+    public List<String> getImports(GenerationContext context, Field field, DomainType domainType) {
+        List<String> imports = new ArrayList<>();
+        if (field.isSubEntity()) {
+            TypeDescriptor descriptor = mapper.getDescriptor(field.getType());
+            descriptor.getNames().stream()
+                    .filter(type -> !mapper.isKnownType(type))
+                    .forEach(type -> imports.add(findSubEntityImport(context, type, domainType)));
+        }
+        List<String> fieldImports = mapper.getImports(field.getType());
+        if (fieldImports != null) {
+            imports.addAll(fieldImports);
+        }
+        return imports;
+    }
+
+    /**
+     * Id of the entity, null when there is no id or the id is a sub-entity.
+     */
+    public Field getIdField(List<Field> fields) {
+        return fields.stream()
+                .filter(Field::isId)
+                .findFirst()
+                .filter(field -> !field.isSubEntity())
+                .orElse(null);
+    }
+
+    /**
+     * Type of the id in the repository, the service and the endpoints, boxed as it is a type argument of the
+     * repository. String when the entity has no id.
+     */
+    public String getIdType(GenerationContext context, Field id) {
+        return id == null ? "String" : getBoxedType(context, id);
+    }
+
+    /**
+     * Imports of the id type, empty when the entity has no id.
+     */
+    public List<String> getIdImports(GenerationContext context, Field id) {
+        return id == null ? new ArrayList<>() : getImports(context, id, DomainType.ENTITY);
+    }
+
+    /**
+     * Field the keyset pagination seeks on, the id of the entity. Null when there is no id, the id is a sub-entity
+     * or the database cannot seek on it.
+     */
+    public Field getCursorField(GenerationContext context, List<Field> fields) {
+        //Elasticsearch has no range queries on the document id
+        if (Database.ELASTICSEARCH.equals(context.getDatabase())) {
+            return null;
+        }
+        return getIdField(fields);
+    }
+
+    /**
+     * Type of the cursor in the entity, boxed so a request without cursor can pass null.
+     */
+    public String getCursorType(GenerationContext context, Field cursor) {
+        return getBoxedType(context, cursor);
+    }
+
+    /**
+     * Derived query of the repository that seeks past the cursor, e.g. {@code findByIdGreaterThan}.
+     */
+    public String getCursorQuery(Field cursor) {
+        return String.format("findBy%sGreaterThan", StringUtils.capitalize(cursor.getName()));
+    }
+
+    private String getBoxedType(GenerationContext context, Field field) {
+        String type = getType(context, field, DomainType.ENTITY);
+        Type fieldType = typeUtils.getType(type);
+        return fieldType.isPrimitiveType() ? fieldType.asPrimitiveType().toBoxedType().asString() : type;
+    }
+
+    private String findSubEntityImport(GenerationContext context, String type, DomainType domainType) {
+        EntityNames subEntityNames = context.getEntityNames(type);
+        switch (domainType) {
+            case RESPONSE:
+                return subEntityNames.getResponseImportPath();
+            case RESOURCE:
+                return subEntityNames.getResourceImportPath();
+            default:
+                return subEntityNames.getEntityImportPath();
+        }
+    }
+
+    private String findSubEntityType(GenerationContext context, String type, DomainType domainType) {
+        switch (domainType) {
+            case RESPONSE:
+                return context.getEntityNames(type).getResponseClassName();
+            case RESOURCE:
+                return context.getEntityNames(type).getResourceClassName();
+            default:
+                return context.getEntityNames(type).getEntityClassName();
+        }
+    }
+}
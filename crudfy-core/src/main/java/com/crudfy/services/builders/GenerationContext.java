@@ -0,0 +1,96 @@
+package com.crudfy.services.builders;
+
+import com.crudfy.domains.resources.ComponentResource;
+import com.crudfy.domains.resources.Database;
+import com.crudfy.domains.resources.EntityCache;
+import com.crudfy.domains.resources.GenerationEngine;
+import com.crudfy.domains.resources.Structure;
+import com.crudfy.services.GenerationMetrics;
+import com.crudfy.services.output.OutputSink;
+import com.crudfy.services.utils.EntityNames;
+import com.crudfy.services.utils.NameUtils;
+import io.micrometer.core.instrument.Tags;
+import lombok.AccessLevel;
+import lombok.Getter;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+
+@Getter
+public class GenerationContext {
+
+    private final String basePath;
+    private final String projectName;
+    private final Structure projectStructure;
+    private final Database database;
+    private final GenerationEngine engine;
+    private final boolean reactive;
+    private final int defaultPageSize;
+    private final int maxPageSize;
+    private final int exportChunkSize;
+    private final int batchSize;
+    private final OutputSink sink;
+    private final Tags metricTags;
+
+    @Getter(AccessLevel.NONE)
+    private final NameUtils nameUtils;
+
+    @Getter(AccessLevel.NONE)
+    private final Map<String, EntityNames> entityNames = new ConcurrentHashMap<>();
+
+    //Cache of every cached entity generated so far by its name, sorted so the main class does not depend on the entity order
+    private final Map<String, EntityCache> caches = new ConcurrentSkipListMap<>();
+
+    public GenerationContext(ComponentResource resource, String basePath, OutputSink sink, NameUtils nameUtils) {
+        this.basePath = basePath;
+        this.projectName = resource.getProjectName();
+        this.projectStructure = resource.getProjectStructure();
+        this.database = resource.getDatabase();
+        this.engine = resource.getEngine();
+        this.reactive = resource.isReactive();
+        this.defaultPageSize = resource.getDefaultPageSize();
+        this.maxPageSize = resource.getMaxPageSize();
+        this.exportChunkSize = resource.getExportChunkSize();
+        this.batchSize = resource.getBatchSize();
+        this.sink = sink;
+        this.metricTags = GenerationMetrics.tags(resource);
+        this.nameUtils = nameUtils;
+    }
+
+    /**
+     * Blocking MySQL projects, the only ones mapped with JPA. Reactive MySQL projects use R2DBC.
+     */
+    public boolean isJpa() {
+        return Database.MYSQL.equals(database) && !reactive;
+    }
+
+    /**
+     * Reactive MySQL projects, mapped with R2DBC.
+     */
+    public boolean isR2dbc() {
+        return Database.MYSQL.equals(database) && reactive;
+    }
+
+    /**
+     * Registers the cache of an entity, written in the main class once every entity is generated.
+     */
+    public void addCache(String cacheName, EntityCache cache) {
+        caches.put(cacheName, cache);
+    }
+
+    /**
+     * Names of an entity of the project, also used for the sub-entities referenced by the fields.
+     */
+    public EntityNames getEntityNames(String entityName) {
+        return entityNames.computeIfAbsent(entityName,
+                name -> nameUtils.getEntityNames(basePath, projectName, name, projectStructure));
+    }
+
+    /**
+     * Drops the names of an entity already written. They are built again if a later entity references it.
+     */
+    public void releaseEntityNames(String entityName) {
+        entityNames.remove(entityName);
+    }
+}
@@ -0,0 +1,132 @@
+package com.crudfy.services.builders;
+
+import com.crudfy.domains.resources.Entity;
+import com.crudfy.domains.resources.Field;
+import com.crudfy.services.utils.EntityNames;
+import com.crudfy.services.utils.TypeUtils;
+import com.github.javaparser.ast.body.ClassOrInterfaceDeclaration;
+import com.github.javaparser.ast.body.MethodDeclaration;
+import com.github.javaparser.ast.body.Parameter;
+import com.github.javaparser.ast.expr.BinaryExpr;
+import com.github.javaparser.ast.expr.FieldAccessExpr;
+import com.github.javaparser.ast.expr.Name;
+import com.github.javaparser.ast.expr.NameExpr;
+import com.github.javaparser.ast.expr.NormalAnnotationExpr;
+import com.github.javaparser.ast.expr.SingleMemberAnnotationExpr;
+import com.github.javaparser.ast.expr.StringLiteralExpr;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+
+import java.util.Arrays;
+
+@Service
+public class RepositoryBuilder extends ClassOrInterfaceBuilder{
+
+    @Autowired
+    private TypeUtils typeUtils;
+
+    @Autowired
+    private DomainFields domainFields;
+
+    public void buildRepository(GenerationContext context, EntityNames names, Entity entity) {
+
+        String interfaceName = names.getRepositoryClassName() ;
+
+        ClassOrInterfaceContext classContext = initialize(names.getRepositoryPackage(), interfaceName,true);
+        ClassOrInterfaceDeclaration repositoryInterface = classContext.getClassOrInterface();
+
+        addImports(classContext, Arrays.asList(
+                names.getEntityImportPath(),
+                "org.springframework.stereotype.Repository"));
+
+        String repositoryImport;
+        switch (context.getDatabase()) {
+            case MONGODB:
+                repositoryImport = context.isReactive() ? "org.springframework.data.mongodb.repository.ReactiveMongoRepository"
+                        : "org.springframework.data.mongodb.repository.MongoRepository";
+                break;
+            case ELASTICSEARCH:
+                repositoryImport = context.isReactive() ? "org.springframework.data.elasticsearch.repository.ReactiveElasticsearchRepository"
+                        : "org.springframework.data.elasticsearch.repository.ElasticsearchRepository";
+                break;
+            default:
+                if (context.isReactive()) {
+                    repositoryImport = "org.springframework.data.r2dbc.repository.R2dbcRepository";
+                } else {
+                    //deleteAllByIdInBatch of the batch endpoints is only declared by JpaRepository
+                    repositoryImport = entity.isBatch() ? "org.springframework.data.jpa.repository.JpaRepository"
+                            : "org.springframework.data.repository.PagingAndSortingRepository";
+                }
+                break;
+        }
+        addImports(classContext, Arrays.asList(repositoryImport));
+        Field id = domainFields.getIdField(entity.getFields());
+        repositoryInterface.addExtendedType(String.format("%s<%s, %s>", repositoryImport.substring(repositoryImport.lastIndexOf('.') + 1),
+                names.getEntityClassName(), domainFields.getIdType(context, id)));
+        addAnnotation(classContext, "Repository");
+        if (context.isReactive()) {
+            addPageQuery(classContext, names);
+        }
+        addCursorQuery(context, classContext, names, domainFields.getCursorField(context, entity.getFields()));
+        addImports(classContext, domainFields.getIdImports(context, id));
+        //Reactive services export with findAll, the Flux is already read as it is written
+        if (entity.isExport() && !context.isReactive()) {
+            addStreamQuery(context, classContext, names);
+        }
+        write(context, classContext, names.getRepositoryPath(), "Erro na escrita da interface Repository");
+    }
+
+    private void addPageQuery(ClassOrInterfaceContext classContext, EntityNames names) {
+        //Reactive repositories have no findAll(Pageable), the page is applied to a derived query
+        addImports(classContext, Arrays.asList("reactor.core.publisher.Flux", "org.springframework.data.domain.Pageable"));
+
+        MethodDeclaration pageQuery = classContext.getClassOrInterface().addMethod("findAllBy");
+        pageQuery.setType(typeUtils.getClassOrInterfaceType(String.format("Flux<%s>", names.getEntityClassName())));
+        pageQuery.addParameter(buildPageableParameter());
+        pageQuery.setBody(null);
+    }
+
+    private void addCursorQuery(GenerationContext context, ClassOrInterfaceContext classContext, EntityNames names, Field cursor) {
+        if (cursor == null) {
+            return;
+        }
+        String listType = context.isReactive() ? "Flux" : "List";
+        addImports(classContext, Arrays.asList(context.isReactive() ? "reactor.core.publisher.Flux" : "java.util.List",
+                "org.springframework.data.domain.Pageable"));
+
+        Parameter cursorParameter = new Parameter();
+        cursorParameter.setType(typeUtils.getType(domainFields.getCursorType(context, cursor)));
+        cursorParameter.setName("after");
+
+        MethodDeclaration cursorQuery = classContext.getClassOrInterface().addMethod(domainFields.getCursorQuery(cursor));
+        cursorQuery.setType(typeUtils.getClassOrInterfaceType(String.format("%s<%s>", listType, names.getEntityClassName())));
+        cursorQuery.addParameter(cursorParameter);
+        cursorQuery.addParameter(buildPageableParameter());
+        cursorQuery.setBody(null);
+    }
+
+    private Parameter buildPageableParameter() {
+        Parameter parameter = new Parameter();
+        parameter.setType(typeUtils.getClassOrInterfaceType("Pageable"));
+        parameter.setName("pageable");
+        return parameter;
+    }
+
+    private void addStreamQuery(GenerationContext context, ClassOrInterfaceContext classContext, EntityNames names) {
+        addImports(classContext, Arrays.asList("java.util.stream.Stream"));
+
+        MethodDeclaration streamQuery = classContext.getClassOrInterface().addMethod("streamAllBy");
+        streamQuery.setType(typeUtils.getClassOrInterfaceType(String.format("Stream<%s>", names.getEntityClassName())));
+        streamQuery.setBody(null);
+        if (context.isJpa()) {
+            //MySQL only streams the rows one by one with this fetch size, otherwise the whole result set is loaded
+            addImports(classContext, Arrays.asList("org.springframework.data.jpa.repository.QueryHints", "javax.persistence.QueryHint"));
+            NormalAnnotationExpr fetchSize = new NormalAnnotationExpr();
+            fetchSize.setName("QueryHint");
+            fetchSize.addPair("name", new StringLiteralExpr("org.hibernate.fetchSize"));
+            fetchSize.addPair("value", new BinaryExpr(new StringLiteralExpr(""),
+                    new FieldAccessExpr(new NameExpr("Integer"), "MIN_VALUE"), BinaryExpr.Operator.PLUS));
+            streamQuery.addAnnotation(new SingleMemberAnnotationExpr(new Name("QueryHints"), fetchSize));
+        }
+    }
+}
@@ -0,0 +1,942 @@
+package com.crudfy.services.builders;
+
+import com.crudfy.domains.resources.Entity;
+import com.crudfy.domains.resources.Field;
+import com.crudfy.services.utils.ArgumentUtils;
+import com.crudfy.services.utils.EntityNames;
+import com.crudfy.services.utils.TypeUtils;
+import com.github.javaparser.ast.Modifier;
+import com.github.javaparser.ast.NodeList;
+import com.github.javaparser.ast.body.ClassOrInterfaceDeclaration;
+import com.github.javaparser.ast.body.MethodDeclaration;
+import com.github.javaparser.ast.body.Parameter;
+import com.github.javaparser.ast.body.VariableDeclarator;
+import com.github.javaparser.ast.expr.*;
+import com.github.javaparser.ast.stmt.BlockStmt;
+import com.github.javaparser.ast.stmt.CatchClause;
+import com.github.javaparser.ast.stmt.ExpressionStmt;
+import com.github.javaparser.ast.stmt.ForEachStmt;
+import com.github.javaparser.ast.stmt.ForStmt;
+import com.github.javaparser.ast.stmt.IfStmt;
+import com.github.javaparser.ast.stmt.ReturnStmt;
+import com.github.javaparser.ast.stmt.Statement;
+import com.github.javaparser.ast.stmt.TryStmt;
+import com.github.javaparser.ast.type.ClassOrInterfaceType;
+import com.github.javaparser.ast.type.PrimitiveType;
+import com.github.javaparser.ast.type.UnknownType;
+import com.github.javaparser.ast.type.VoidType;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+
+import java.util.Arrays;
+import java.util.List;
+
+@Service
+public class ServiceBuilder extends ClassOrInterfaceBuilder{
+
+    @Autowired
+    private TypeUtils typeUtils;
+
+    @Autowired
+    private ArgumentUtils argumentUtils;
+
+    @Autowired
+    private DomainFields domainFields;
+
+    public void buildMapper(GenerationContext context, EntityNames names) {
+
+        String interfaceName = names.getMapperClassName() ;
+
+        ClassOrInterfaceContext classContext = initialize(names.getServicePackage(), interfaceName, true);
+        ClassOrInterfaceDeclaration mapperInterface = classContext.getClassOrInterface();
+
+        addImports(classContext, Arrays.asList(
+                names.getResponseImportPath(),
+                names.getResourceImportPath(),
+                names.getEntityImportPath(),
+                "java.util.List",
+                "org.mapstruct.Mapper"));
+        addMapperAnnotations(mapperInterface);
+        addMapperMethods(mapperInterface, names);
+
+        write(context, classContext, names.getServicePath(), "Erro na escrita da interface Mapper");
+    }
+
+    public void buildService(GenerationContext context, EntityNames names, Entity entity) {
+
+        String className = names.getServiceClassName() ;
+
+        ClassOrInterfaceContext classContext = initialize(names.getServicePackage(), className, false);
+        ClassOrInterfaceDeclaration serviceClass = classContext.getClassOrInterface();
+
+        addImports(classContext, Arrays.asList(
+                names.getEntityImportPath(),
+                names.getResourceImportPath(),
+                names.getResponseImportPath(),
+                names.getRepositoryImportPath(),
+                context.isReactive() ? "reactor.core.publisher.Flux" : "java.util.List",
+                context.isReactive() ? "reactor.core.publisher.Mono" : "java.util.Optional",
+                "org.springframework.stereotype.Service",
+                "org.springframework.beans.factory.annotation.Autowired",
+                "org.springframework.data.domain.Pageable",
+                "org.springframework.data.domain.PageRequest"
+        ));
+        Field cursor = domainFields.getCursorField(context, entity.getFields());
+        if (cursor != null) {
+            addImports(classContext, Arrays.asList("org.springframework.data.domain.Sort"));
+        }
+        Field id = domainFields.getIdField(entity.getFields());
+        String idType = domainFields.getIdType(context, id);
+        addImports(classContext, domainFields.getIdImports(context, id));
+        if (entity.isExport() && !context.isReactive()) {
+            addImports(classContext, Arrays.asList(
+                    "java.io.IOException",
+                    "java.io.OutputStream",
+                    "java.util.Iterator",
+                    "java.util.stream.Stream",
+                    "com.fasterxml.jackson.databind.ObjectMapper"));
+            if (context.isJpa()) {
+                addImports(classContext, Arrays.asList(
+                        "javax.persistence.EntityManager",
+                        "javax.persistence.PersistenceContext",
+                        "org.springframework.transaction.annotation.Transactional"));
+            }
+        }
+        if (entity.isBatch()) {
+            addImports(classContext, Arrays.asList(
+                    names.getBatchResultImportPath(),
+                    "java.util.ArrayList",
+                    "java.util.HashSet",
+                    "java.util.Objects",
+                    "java.util.Set",
+                    "java.util.stream.Collectors",
+                    "org.springframework.beans.DirectFieldAccessor"));
+        }
+        if (entity.getCache() != null) {
+            addImports(classContext, Arrays.asList(
+                    "org.springframework.cache.annotation.Cacheable",
+                    "org.springframework.cache.annotation.CachePut",
+                    "org.springframework.cache.annotation.CacheEvict"));
+        }
+        if (context.isR2dbc()) {
+            addImports(classContext, Arrays.asList("org.springframework.data.r2dbc.core.R2dbcEntityTemplate"));
+        }
+        addAnnotation(classContext, "Service");
+        addFields(context, serviceClass, names, entity);
+        if (context.isReactive()) {
+            addReactiveServiceMethods(context, serviceClass, names, idType, cursor, entity.isExport());
+        } else {
+            addServiceMethods(context, serviceClass, names, idType, cursor, entity.isExport());
+        }
+        if (entity.isBatch()) {
+            addBatchMethods(context, serviceClass, names, idType, id);
+        }
+        if (entity.getCache() != null) {
+            addCacheAnnotations(serviceClass, names, entity, id);
+        }
+
+        write(context, classContext, names.getServicePath(), "Erro na escrita da classe Service");
+    }
+
+    /**
+     * The cache of the entity is named after it. Found entities are cached by id, saved ones are put under the id of the
+     * response, and the batch endpoints clear the whole cache as they may change any entity.
+     */
+    private void addCacheAnnotations(ClassOrInterfaceDeclaration serviceClass, EntityNames names, Entity entity, Field id) {
+
+        StringLiteralExpr cacheName = new StringLiteralExpr(names.getEntityVariableName());
+        serviceClass.getMethodsByName("find").get(0)
+                .addAnnotation(new NormalAnnotationExpr().addPair("value", cacheName.clone()).setName("Cacheable"));
+        serviceClass.getMethodsByName("save").get(0)
+                .addAnnotation(new NormalAnnotationExpr()
+                        .addPair("value", cacheName.clone())
+                        .addPair("key", new StringLiteralExpr("#result." + id.getName()))
+                        .setName("CachePut"));
+        serviceClass.getMethodsByName("delete").get(0)
+                .addAnnotation(new NormalAnnotationExpr().addPair("value", cacheName.clone()).setName("CacheEvict"));
+        if (entity.isBatch()) {
+            for (String batchMethod : Arrays.asList("saveAll", "updateAll", "deleteAll")) {
+                serviceClass.getMethodsByName(batchMethod).get(0)
+                        .addAnnotation(new NormalAnnotationExpr()
+                                .addPair("value", cacheName.clone())
+                                .addPair("allEntries", new BooleanLiteralExpr(true))
+                                .setName("CacheEvict"));
+            }
+        }
+    }
+
+    private void addMapperAnnotations(ClassOrInterfaceDeclaration mapperInterface) {
+        mapperInterface.addAnnotation(new NormalAnnotationExpr().addPair("componentModel", "\"spring\"").setName("Mapper"));
+    }
+
+    private void addFields(GenerationContext context, ClassOrInterfaceDeclaration serviceClass, EntityNames names, Entity entity) {
+
+        boolean export = entity.isExport();
+        serviceClass.addFieldWithInitializer(PrimitiveType.intType(), "MAX_PAGE_SIZE",
+                new IntegerLiteralExpr(String.valueOf(context.getMaxPageSize())),
+                Modifier.Keyword.PRIVATE, Modifier.Keyword.STATIC, Modifier.Keyword.FINAL);
+        if (export) {
+            serviceClass.addFieldWithInitializer(PrimitiveType.intType(), "EXPORT_CHUNK_SIZE",
+                    new IntegerLiteralExpr(String.valueOf(context.getExportChunkSize())),
+                    Modifier.Keyword.PRIVATE, Modifier.Keyword.STATIC, Modifier.Keyword.FINAL);
+        }
+        if (entity.isBatch()) {
+            serviceClass.addFieldWithInitializer(PrimitiveType.intType(), "BATCH_SIZE",
+                    new IntegerLiteralExpr(String.valueOf(context.getBatchSize())),
+                    Modifier.Keyword.PRIVATE, Modifier.Keyword.STATIC, Modifier.Keyword.FINAL);
+        }
+        serviceClass.addPrivateField(names.getRepositoryClassName(), names.getRepositoryVariableName()).addAnnotation("Autowired");
+        serviceClass.addPrivateField(names.getMapperClassName(), names.getMapperVariableName()).addAnnotation("Autowired");
+        if (context.isR2dbc()) {
+            serviceClass.addPrivateField("R2dbcEntityTemplate", "entityTemplate").addAnnotation("Autowired");
+        }
+        if (export && !context.isReactive()) {
+            serviceClass.addPrivateField("ObjectMapper", "objectMapper").addAnnotation("Autowired");
+            if (context.isJpa()) {
+                serviceClass.addPrivateField("EntityManager", "entityManager").addAnnotation("PersistenceContext");
+            }
+        }
+    }
+
+    private void addMapperMethods(ClassOrInterfaceDeclaration mapperInterface, EntityNames names) {
+
+        addToEntityMethod(mapperInterface, names);
+        addToResponseMethod(mapperInterface, names);
+        addToResponseListMethod(mapperInterface, names);
+    }
+
+    private void addToEntityMethod(ClassOrInterfaceDeclaration mapperInterface, EntityNames names) {
+
+        Parameter parameter = new Parameter();
+        parameter.setType(typeUtils.getClassOrInterfaceType(names.getResourceClassName()));
+        parameter.setName(names.getResourceVariableName());
+
+        MethodDeclaration toEntityMethod = mapperInterface.addMethod(names.getToEntityMethod());
+        toEntityMethod.setType(typeUtils.getClassOrInterfaceType(names.getEntityClassName()));
+        toEntityMethod.addParameter(parameter);
+        toEntityMethod.setBody(null);
+    }
+
+    private void addToResponseMethod(ClassOrInterfaceDeclaration mapperInterface, EntityNames names) {
+
+        Parameter parameter = new Parameter();
+        parameter.setType(typeUtils.getClassOrInterfaceType(names.getEntityClassName()));
+        parameter.setName(names.getEntityVariableName());
+
+        MethodDeclaration toResponseMethod = mapperInterface.addMethod(names.getToResponseMethod());
+        toResponseMethod.setType(typeUtils.getClassOrInterfaceType(names.getResponseClassName()));
+        toResponseMethod.addParameter(parameter);
+        toResponseMethod.setBody(null);
+    }
+
+    private void addToResponseListMethod(ClassOrInterfaceDeclaration mapperInterface, EntityNames names) {
+
+        Parameter parameter = new Parameter();
+        parameter.setType(typeUtils.getClassOrInterfaceType(String.format("List<%s>", names.getEntityClassName())));
+        parameter.setName(names.getEntityListVariableName());
+
+        MethodDeclaration toResponseListMethod = mapperInterface.addMethod(names.getToResponseListMethod());
+        toResponseListMethod.setType(typeUtils.getClassOrInterfaceType(String.format("List<%s>", names.getResponseClassName())));
+        toResponseListMethod.addParameter(parameter);
+        toResponseListMethod.setBody(null);
+    }
+
+    private void addServiceMethods(GenerationContext context, ClassOrInterfaceDeclaration serviceClass, EntityNames names, String idType,
+                                   Field cursor, boolean export) {
+
+        addFindMethod(serviceClass, names, idType);
+        addFindAllMethod(serviceClass, names);
+        if (cursor != null) {
+            addFindAllAfterMethod(context, serviceClass, names, cursor);
+        }
+        if (export) {
+            addExportMethod(context, serviceClass, names);
+        }
+        addSaveMethod(serviceClass, names);
+        addDeleteMethod(serviceClass, names, idType);
+    }
+
+    private void addReactiveServiceMethods(GenerationContext context, ClassOrInterfaceDeclaration serviceClass, EntityNames names, String idType,
+                                           Field cursor, boolean export) {
+
+        addReactiveFindMethod(serviceClass, names, idType);
+        addReactiveFindAllMethod(serviceClass, names);
+        if (cursor != null) {
+            addReactiveFindAllAfterMethod(context, serviceClass, names, cursor);
+        }
+        if (export) {
+            addReactiveExportMethod(serviceClass, names);
+        }
+        if (context.isR2dbc()) {
+            addReactiveCreateMethod(serviceClass, names);
+        }
+        addReactiveSaveMethod(serviceClass, names);
+        addReactiveDeleteMethod(serviceClass, names, idType);
+    }
+
+    private void addFindMethod(ClassOrInterfaceDeclaration serviceClass, EntityNames names, String idType) {
+
+        ClassOrInterfaceType optionalResponse = typeUtils.getClassOrInterfaceType(String.format("Optional<%s>", names.getResponseClassName()));
+        ClassOrInterfaceType optionalEntity = typeUtils.getClassOrInterfaceType(String.format("Optional<%s>", names.getEntityClassName()));
+
+        VariableDeclarator entityDeclaration = new VariableDeclarator(
+                optionalEntity,
+                names.getEntityVariableName(),
+                new MethodCallExpr(new NameExpr(names.getRepositoryVariableName()), "findById", argumentUtils.buildNameArgument("id")));
+
+        MethodCallExpr getExpr = new MethodCallExpr(new NameExpr(names.getEntityVariableName()), "get");
+        MethodCallExpr toResponse =  new MethodCallExpr(
+                new NameExpr(names.getMapperVariableName()),
+                names.getToResponseMethod(),
+                argumentUtils.buildArguments(getExpr));
+        MethodCallExpr isPresent = new MethodCallExpr(new NameExpr(names.getEntityVariableName()), "isPresent");
+        MethodCallExpr toOptional = new MethodCallExpr(new NameExpr("Optional"),"of", argumentUtils.buildArguments(toResponse));
+        MethodCallExpr empty = new MethodCallExpr(new NameExpr("Optional"), "empty");
+
+        BlockStmt blockStmt = new BlockStmt();
+        blockStmt.addStatement(new VariableDeclarationExpr(entityDeclaration));
+        blockStmt.addStatement(new ReturnStmt(new ConditionalExpr(isPresent, toOptional, empty)));
+
+        MethodDeclaration findMethod = serviceClass.addMethod("find", Modifier.Keyword.PUBLIC);
+        findMethod.setType(optionalResponse);
+        findMethod.addParameter(buildIdParameter(idType));
+        findMethod.setBody(blockStmt);
+    }
+
+    private void addFindAllMethod(ClassOrInterfaceDeclaration serviceClass, EntityNames names) {
+
+        //Offset pages, the size is capped by the spec
+        MethodCallExpr pageRequest = new MethodCallExpr(new NameExpr("PageRequest"), "of", argumentUtils.buildArguments(
+                new MethodCallExpr(new NameExpr("pageable"), "getPageNumber"),
+                buildPageSize(),
+                new MethodCallExpr(new NameExpr("pageable"), "getSort")));
+        MethodCallExpr findAllExpr = new MethodCallExpr(new NameExpr(names.getRepositoryVariableName()), "findAll",
+                argumentUtils.buildNameArgument("page"));
+        MethodCallExpr toResponse = new MethodCallExpr(new NameExpr(names.getMapperVariableName()),
+                names.getToResponseListMethod(),
+                argumentUtils.buildArguments(new MethodCallExpr(findAllExpr, "getContent")));
+
+        BlockStmt blockStmt = new BlockStmt();
+        blockStmt.addStatement(new VariableDeclarationExpr(buildPageDeclaration(pageRequest)));
+        blockStmt.addStatement(new ReturnStmt(toResponse));
+
+        MethodDeclaration findAllMethod = serviceClass.addMethod("findAll", Modifier.Keyword.PUBLIC);
+        findAllMethod.setType(typeUtils.getClassOrInterfaceType(String.format("List<%s>", names.getResponseClassName())));
+        findAllMethod.addParameter(buildPageableParameter());
+        findAllMethod.setBody(blockStmt);
+    }
+
+    private void addFindAllAfterMethod(GenerationContext context, ClassOrInterfaceDeclaration serviceClass, EntityNames names, Field cursor) {
+
+        //Keyset pages, the first page after the cursor in the cursor order
+        MethodCallExpr sort = new MethodCallExpr(new NameExpr("Sort"), "by",
+                argumentUtils.buildArguments(new StringLiteralExpr(cursor.getName())));
+        MethodCallExpr pageRequest = new MethodCallExpr(new NameExpr("PageRequest"), "of",
+                argumentUtils.buildArguments(new IntegerLiteralExpr("0"), buildPageSize(), sort));
+        MethodCallExpr seekExpr = new MethodCallExpr(new NameExpr(names.getRepositoryVariableName()),
+                domainFields.getCursorQuery(cursor),
+                argumentUtils.buildArguments(new NameExpr("after"), new NameExpr("page")));
+        MethodCallExpr toResponse = new MethodCallExpr(new NameExpr(names.getMapperVariableName()),
+                names.getToResponseListMethod(),
+                argumentUtils.buildArguments(seekExpr));
+
+        BlockStmt blockStmt = new BlockStmt();
+        blockStmt.addStatement(new VariableDeclarationExpr(buildPageDeclaration(pageRequest)));
+        blockStmt.addStatement(new ReturnStmt(toResponse));
+
+        Parameter afterParameter = new Parameter();
+        afterParameter.setType(typeUtils.getType(domainFields.getCursorType(context, cursor)));
+        afterParameter.setName("after");
+
+        MethodDeclaration findAllAfterMethod = serviceClass.addMethod("findAllAfter", Modifier.Keyword.PUBLIC);
+        findAllAfterMethod.setType(typeUtils.getClassOrInterfaceType(String.format("List<%s>", names.getResponseClassName())));
+        findAllAfterMethod.addParameter(afterParameter);
+        findAllAfterMethod.addParameter(buildPageableParameter());
+        findAllAfterMethod.setBody(blockStmt);
+    }
+
+    private void addExportMethod(GenerationContext context, ClassOrInterfaceDeclaration serviceClass, EntityNames names) {
+
+        //One row at a time from the database cursor, written as a JSON line and flushed every chunk
+        String entityVariableName = names.getEntityVariableName();
+        boolean jpa = context.isJpa();
+        MethodCallExpr toResponse = new MethodCallExpr(new NameExpr(names.getMapperVariableName()),
+                names.getToResponseMethod(),
+                argumentUtils.buildNameArgument(entityVariableName));
+        MethodCallExpr writeValueAsBytes = new MethodCallExpr(new NameExpr("objectMapper"), "writeValueAsBytes",
+                argumentUtils.buildArguments(toResponse));
+        BinaryExpr chunkEnd = new BinaryExpr(
+                new BinaryExpr(new NameExpr("written"), new NameExpr("EXPORT_CHUNK_SIZE"), BinaryExpr.Operator.REMAINDER),
+                new IntegerLiteralExpr("0"), BinaryExpr.Operator.EQUALS);
+
+        BlockStmt rowStmt = new BlockStmt();
+        rowStmt.addStatement(new VariableDeclarationExpr(new VariableDeclarator(
+                typeUtils.getClassOrInterfaceType(names.getEntityClassName()),
+                entityVariableName,
+                new MethodCallExpr(new NameExpr("iterator"), "next"))));
+        rowStmt.addStatement(new MethodCallExpr(new NameExpr("output"), "write", argumentUtils.buildArguments(writeValueAsBytes)));
+        rowStmt.addStatement(new MethodCallExpr(new NameExpr("output"), "write", argumentUtils.buildArguments(new CharLiteralExpr("\\n"))));
+        if (jpa) {
+            //Read rows are not kept in the persistence context
+            rowStmt.addStatement(new MethodCallExpr(new NameExpr("entityManager"), "detach", argumentUtils.buildNameArgument(entityVariableName)));
+        }
+        rowStmt.addStatement(new IfStmt(chunkEnd, new ExpressionStmt(new MethodCallExpr(new NameExpr("output"), "flush")), null));
+
+        ForStmt forStmt = new ForStmt(
+                new NodeList<>(new VariableDeclarationExpr(new VariableDeclarator(PrimitiveType.intType(), "written", new IntegerLiteralExpr("1")))),
+                new MethodCallExpr(new NameExpr("iterator"), "hasNext"),
+                new NodeList<>(new UnaryExpr(new NameExpr("written"), UnaryExpr.Operator.POSTFIX_INCREMENT)),
+                rowStmt);
+
+        BlockStmt tryStmt = new BlockStmt();
+        tryStmt.addStatement(new VariableDeclarationExpr(new VariableDeclarator(
+                typeUtils.getClassOrInterfaceType(String.format("Iterator<%s>", names.getEntityClassName())),
+                "iterator",
+                new MethodCallExpr(new NameExpr("stream"), "iterator"))));
+        tryStmt.addStatement(forStmt);
+
+        VariableDeclarationExpr streamDeclaration = new VariableDeclarationExpr(new VariableDeclarator(
+                typeUtils.getClassOrInterfaceType(String.format("Stream<%s>", names.getEntityClassName())),
+                "stream",
+                new MethodCallExpr(new NameExpr(names.getRepositoryVariableName()), "streamAllBy")));
+
+        BlockStmt blockStmt = new BlockStmt();
+        blockStmt.addStatement(new TryStmt(new NodeList<>(streamDeclaration), tryStmt, new NodeList<>(), null));
+
+        Parameter outputParameter = new Parameter();
+        outputParameter.setType(typeUtils.getClassOrInterfaceType("OutputStream"));
+        outputParameter.setName("output");
+
+        MethodDeclaration exportMethod = serviceClass.addMethod("export", Modifier.Keyword.PUBLIC);
+        if (jpa) {
+            //The stream must be read inside the transaction that opened it
+            exportMethod.addAnnotation(new NormalAnnotationExpr().addPair("readOnly", new BooleanLiteralExpr(true)).setName("Transactional"));
+        }
+        exportMethod.setType(new VoidType());
+        exportMethod.addParameter(outputParameter);
+        exportMethod.addThrownException(typeUtils.getClassOrInterfaceType("IOException"));
+        exportMethod.setBody(blockStmt);
+    }
+
+    private void addReactiveFindMethod(ClassOrInterfaceDeclaration serviceClass, EntityNames names, String idType) {
+
+        MethodCallExpr findExpr = new MethodCallExpr(new NameExpr(names.getRepositoryVariableName()), "findById", argumentUtils.buildNameArgument("id"));
+
+        BlockStmt blockStmt = new BlockStmt();
+        blockStmt.addStatement(new ReturnStmt(buildToResponse(findExpr, names)));
+
+        MethodDeclaration findMethod = serviceClass.addMethod("find", Modifier.Keyword.PUBLIC);
+        findMethod.setType(typeUtils.getClassOrInterfaceType(String.format("Mono<%s>", names.getResponseClassName())));
+        findMethod.addParameter(buildIdParameter(idType));
+        findMethod.setBody(blockStmt);
+    }
+
+    private void addReactiveFindAllMethod(ClassOrInterfaceDeclaration serviceClass, EntityNames names) {
+
+        //Offset pages, the size is capped by the spec
+        MethodCallExpr pageRequest = new MethodCallExpr(new NameExpr("PageRequest"), "of", argumentUtils.buildArguments(
+                new MethodCallExpr(new NameExpr("pageable"), "getPageNumber"),
+                buildPageSize(),
+                new MethodCallExpr(new NameExpr("pageable"), "getSort")));
+        MethodCallExpr findAllExpr = new MethodCallExpr(new NameExpr(names.getRepositoryVariableName()), "findAllBy",
+                argumentUtils.buildNameArgument("page"));
+
+        BlockStmt blockStmt = new BlockStmt();
+        blockStmt.addStatement(new VariableDeclarationExpr(buildPageDeclaration(pageRequest)));
+        blockStmt.addStatement(new ReturnStmt(buildToResponse(findAllExpr, names)));
+
+        MethodDeclaration findAllMethod = serviceClass.addMethod("findAll", Modifier.Keyword.PUBLIC);
+        findAllMethod.setType(typeUtils.getClassOrInterfaceType(String.format("Flux<%s>", names.getResponseClassName())));
+        findAllMethod.addParameter(buildPageableParameter());
+        findAllMethod.setBody(blockStmt);
+    }
+
+    private void addReactiveFindAllAfterMethod(GenerationContext context, ClassOrInterfaceDeclaration serviceClass, EntityNames names, Field cursor) {
+
+        //Keyset pages, the first page after the cursor in the cursor order
+        MethodCallExpr sort = new MethodCallExpr(new NameExpr("Sort"), "by",
+                argumentUtils.buildArguments(new StringLiteralExpr(cursor.getName())));
+        MethodCallExpr pageRequest = new MethodCallExpr(new NameExpr("PageRequest"), "of",
+                argumentUtils.buildArguments(new IntegerLiteralExpr("0"), buildPageSize(), sort));
+        MethodCallExpr seekExpr = new MethodCallExpr(new NameExpr(names.getRepositoryVariableName()),
+                domainFields.getCursorQuery(cursor),
+                argumentUtils.buildArguments(new NameExpr("after"), new NameExpr("page")));
+
+        BlockStmt blockStmt = new BlockStmt();
+        blockStmt.addStatement(new VariableDeclarationExpr(buildPageDeclaration(pageRequest)));
+        blockStmt.addStatement(new ReturnStmt(buildToResponse(seekExpr, names)));
+
+        Parameter afterParameter = new Parameter();
+        afterParameter.setType(typeUtils.getType(domainFields.getCursorType(context, cursor)));
+        afterParameter.setName("after");
+
+        MethodDeclaration findAllAfterMethod = serviceClass.addMethod("findAllAfter", Modifier.Keyword.PUBLIC);
+        findAllAfterMethod.setType(typeUtils.getClassOrInterfaceType(String.format("Flux<%s>", names.getResponseClassName())));
+        findAllAfterMethod.addParameter(afterParameter);
+        findAllAfterMethod.addParameter(buildPageableParameter());
+        findAllAfterMethod.setBody(blockStmt);
+    }
+
+    private void addReactiveExportMethod(ClassOrInterfaceDeclaration serviceClass, EntityNames names) {
+
+        //The whole collection, requested from the database EXPORT_CHUNK_SIZE entities at a time
+        MethodCallExpr findAllExpr = new MethodCallExpr(new NameExpr(names.getRepositoryVariableName()), "findAll");
+        MethodCallExpr limitRateExpr = new MethodCallExpr(findAllExpr, "limitRate",
+                argumentUtils.buildNameArgument("EXPORT_CHUNK_SIZE"));
+
+        BlockStmt blockStmt = new BlockStmt();
+        blockStmt.addStatement(new ReturnStmt(buildToResponse(limitRateExpr, names)));
+
+        MethodDeclaration exportMethod = serviceClass.addMethod("export", Modifier.Keyword.PUBLIC);
+        exportMethod.setType(typeUtils.getClassOrInterfaceType(String.format("Flux<%s>", names.getResponseClassName())));
+        exportMethod.setBody(blockStmt);
+    }
+
+    /**
+     * R2DBC saves an entity with an id as an update, so the new entities are inserted through the template.
+     */
+    private void addReactiveCreateMethod(ClassOrInterfaceDeclaration serviceClass, EntityNames names) {
+
+        MethodCallExpr toEntity = new MethodCallExpr(
+                new NameExpr(names.getMapperVariableName()),
+                names.getToEntityMethod(),
+                argumentUtils.buildNameArgument(names.getResourceVariableName()));
+        VariableDeclarator entityDeclaration = new VariableDeclarator(
+                typeUtils.getClassOrInterfaceType(names.getEntityClassName()),
+                names.getEntityVariableName(),
+                toEntity);
+        MethodCallExpr insertExpr = new MethodCallExpr(
+                new NameExpr("entityTemplate"),
+                "insert",
+                argumentUtils.buildNameArgument(names.getEntityVariableName()));
+
+        BlockStmt blockStmt = new BlockStmt();
+        blockStmt.addStatement(new VariableDeclarationExpr(entityDeclaration));
+        blockStmt.addStatement(new ReturnStmt(buildToResponse(insertExpr, names)));
+
+        MethodDeclaration createMethod = serviceClass.addMethod("create", Modifier.Keyword.PUBLIC);
+        createMethod.setType(typeUtils.getClassOrInterfaceType(String.format("Mono<%s>", names.getResponseClassName())));
+        createMethod.addParameter(buildResourceParameter(names));
+        createMethod.setBody(blockStmt);
+    }
+
+    private void addReactiveSaveMethod(ClassOrInterfaceDeclaration serviceClass, EntityNames names) {
+
+        MethodCallExpr toEntity = new MethodCallExpr(
+                new NameExpr(names.getMapperVariableName()),
+                names.getToEntityMethod(),
+                argumentUtils.buildNameArgument(names.getResourceVariableName()));
+        VariableDeclarator entityDeclaration = new VariableDeclarator(
+                typeUtils.getClassOrInterfaceType(names.getEntityClassName()),
+                names.getEntityVariableName(),
+                toEntity);
+        MethodCallExpr saveExpr = new MethodCallExpr(
+                new NameExpr(names.getRepositoryVariableName()),
+                "save",
+                argumentUtils.buildNameArgument(names.getEntityVariableName()));
+
+        BlockStmt blockStmt = new BlockStmt();
+        blockStmt.addStatement(new VariableDeclarationExpr(entityDeclaration));
+        blockStmt.addStatement(new ReturnStmt(buildToResponse(saveExpr, names)));
+
+        MethodDeclaration saveMethod = serviceClass.addMethod("save", Modifier.Keyword.PUBLIC);
+        saveMethod.setType(typeUtils.getClassOrInterfaceType(String.format("Mono<%s>", names.getResponseClassName())));
+        saveMethod.addParameter(buildResourceParameter(names));
+        saveMethod.setBody(blockStmt);
+    }
+
+    private void addReactiveDeleteMethod(ClassOrInterfaceDeclaration serviceClass, EntityNames names, String idType) {
+
+        MethodCallExpr deleteExpr = new MethodCallExpr(new NameExpr(names.getRepositoryVariableName()), "deleteById", argumentUtils.buildNameArgument("id"));
+
+        BlockStmt blockStmt = new BlockStmt();
+        blockStmt.addStatement(new ReturnStmt(deleteExpr));
+
+        MethodDeclaration deleteMethod = serviceClass.addMethod("delete", Modifier.Keyword.PUBLIC);
+        deleteMethod.setType(typeUtils.getClassOrInterfaceType("Mono<Void>"));
+        deleteMethod.addParameter(buildIdParameter(idType));
+        deleteMethod.setBody(blockStmt);
+    }
+
+    private void addBatchMethods(GenerationContext context, ClassOrInterfaceDeclaration serviceClass, EntityNames names, String idType,
+                                 Field id) {
+
+        addSaveAllMethod(serviceClass, names);
+        addSaveOneMethod(serviceClass, names);
+        addUpdateAllMethod(serviceClass, names, idType);
+        addDeleteAllMethod(context, serviceClass, names, idType);
+        addDeleteOneMethod(serviceClass, names, idType);
+        addFindExistingIdsMethod(serviceClass, names, idType, id);
+        addGetResourceIdMethod(serviceClass, names, idType, id);
+    }
+
+    private void addSaveAllMethod(ClassOrInterfaceDeclaration serviceClass, EntityNames names) {
+
+        //Each chunk is saved with a single saveAll, a chunk that fails is saved again one entity at a time
+        MethodCallExpr toEntities = new MethodCallExpr(
+                new MethodCallExpr(new MethodCallExpr(new NameExpr("chunk"), "stream"), "map", argumentUtils.buildArguments(
+                        new MethodReferenceExpr(new NameExpr(names.getMapperVariableName()), null, names.getToEntityMethod()))),
+                "collect",
+                argumentUtils.buildArguments(new MethodCallExpr(new NameExpr("Collectors"), "toList")));
+        MethodCallExpr item = new MethodCallExpr(new NameExpr("chunk"), "get", argumentUtils.buildNameArgument("i"));
+        Expression index = new BinaryExpr(new NameExpr("from"), new NameExpr("i"), BinaryExpr.Operator.PLUS);
+
+        BlockStmt saveStmt = new BlockStmt();
+        saveStmt.addStatement(new MethodCallExpr(new NameExpr(names.getRepositoryVariableName()), "saveAll",
+                argumentUtils.buildArguments(toEntities)));
+        saveStmt.addStatement(buildItemLoop(buildAddResult(buildBatchResult(names, index, new NameExpr("status"), new NullLiteralExpr()))));
+
+        BlockStmt retryStmt = new BlockStmt();
+        retryStmt.addStatement(buildItemLoop(buildAddResult(new MethodCallExpr(null, "saveOne",
+                argumentUtils.buildArguments(index.clone(), item, new NameExpr("status"))))));
+
+        BlockStmt chunkStmt = new BlockStmt();
+        chunkStmt.addStatement(new TryStmt(saveStmt, new NodeList<>(buildCatchClause(retryStmt)), null));
+
+        BlockStmt blockStmt = new BlockStmt();
+        blockStmt.addStatement(buildResultsDeclaration(names));
+        blockStmt.addStatement(buildChunkLoop(names.getResourceClassName(), names.getResourceListVariableName(), chunkStmt));
+        blockStmt.addStatement(new ReturnStmt(new NameExpr("results")));
+
+        Parameter listParameter = new Parameter();
+        listParameter.setType(typeUtils.getClassOrInterfaceType(String.format("List<%s>", names.getResourceClassName())));
+        listParameter.setName(names.getResourceListVariableName());
+
+        MethodDeclaration saveAllMethod = serviceClass.addMethod("saveAll", Modifier.Keyword.PUBLIC);
+        saveAllMethod.setType(typeUtils.getClassOrInterfaceType(String.format("List<%s>", names.getBatchResultClassName())));
+        saveAllMethod.addParameter(listParameter);
+        saveAllMethod.addParameter(PrimitiveType.intType(), "status");
+        saveAllMethod.setBody(blockStmt);
+    }
+
+    private void addSaveOneMethod(ClassOrInterfaceDeclaration serviceClass, EntityNames names) {
+
+        MethodCallExpr toEntity = new MethodCallExpr(new NameExpr(names.getMapperVariableName()), names.getToEntityMethod(),
+                argumentUtils.buildNameArgument(names.getResourceVariableName()));
+
+        BlockStmt saveStmt = new BlockStmt();
+        saveStmt.addStatement(new MethodCallExpr(new NameExpr(names.getRepositoryVariableName()), "save", argumentUtils.buildArguments(toEntity)));
+        saveStmt.addStatement(new ReturnStmt(buildBatchResult(names, new NameExpr("index"), new NameExpr("status"), new NullLiteralExpr())));
+
+        BlockStmt failedStmt = new BlockStmt();
+        failedStmt.addStatement(new ReturnStmt(buildBatchResult(names, new NameExpr("index"), new IntegerLiteralExpr("400"),
+                new MethodCallExpr(new NameExpr("e"), "getMessage"))));
+
+        BlockStmt blockStmt = new BlockStmt();
+        blockStmt.addStatement(new TryStmt(saveStmt, new NodeList<>(buildCatchClause(failedStmt)), null));
+
+        MethodDeclaration saveOneMethod = serviceClass.addMethod("saveOne", Modifier.Keyword.PRIVATE);
+        saveOneMethod.setType(typeUtils.getClassOrInterfaceType(names.getBatchResultClassName()));
+        saveOneMethod.addParameter(PrimitiveType.intType(), "index");
+        saveOneMethod.addParameter(buildResourceParameter(names));
+        saveOneMethod.addParameter(PrimitiveType.intType(), "status");
+        saveOneMethod.setBody(blockStmt);
+    }
+
+    /**
+     * Only the entities found in the chunk are saved, the others are reported as not found like the single update.
+     */
+    private void addUpdateAllMethod(ClassOrInterfaceDeclaration serviceClass, EntityNames names, String idType) {
+
+        String resourceVariableName = names.getResourceVariableName();
+        Expression index = new BinaryExpr(new NameExpr("from"), new NameExpr("i"), BinaryExpr.Operator.PLUS);
+        MethodCallExpr isFound = new MethodCallExpr(new NameExpr("found"), "contains", argumentUtils.buildArguments(
+                new MethodCallExpr(new NameExpr("ids"), "get", argumentUtils.buildNameArgument("i"))));
+        MethodCallExpr ids = buildCollectList(new MethodCallExpr(new MethodCallExpr(new NameExpr("chunk"), "stream"), "map",
+                argumentUtils.buildArguments(new MethodReferenceExpr(new ThisExpr(), null, "getResourceId"))));
+        LambdaExpr isFoundResource = new LambdaExpr(new Parameter(new UnknownType(), resourceVariableName),
+                new MethodCallExpr(new NameExpr("found"), "contains", argumentUtils.buildArguments(
+                        new MethodCallExpr(null, "getResourceId", argumentUtils.buildNameArgument(resourceVariableName)))));
+        MethodCallExpr toEntities = buildCollectList(new MethodCallExpr(
+                new MethodCallExpr(new MethodCallExpr(new NameExpr("chunk"), "stream"), "filter", argumentUtils.buildArguments(isFoundResource)),
+                "map",
+                argumentUtils.buildArguments(new MethodReferenceExpr(new NameExpr(names.getMapperVariableName()), null, names.getToEntityMethod()))));
+        MethodCallExpr saveOne = new MethodCallExpr(null, "saveOne", argumentUtils.buildArguments(index.clone(),
+                new MethodCallExpr(new NameExpr("chunk"), "get", argumentUtils.buildNameArgument("i")), new IntegerLiteralExpr("200")));
+
+        BlockStmt saveStmt = new BlockStmt();
+        saveStmt.addStatement(new MethodCallExpr(new NameExpr(names.getRepositoryVariableName()), "saveAll",
+                argumentUtils.buildArguments(toEntities)));
+        saveStmt.addStatement(buildItemLoop(buildAddResult(buildBatchResult(names, index,
+                new ConditionalExpr(isFound, new IntegerLiteralExpr("200"), new IntegerLiteralExpr("404")), new NullLiteralExpr()))));
+
+        BlockStmt retryStmt = new BlockStmt();
+        retryStmt.addStatement(buildItemLoop(buildAddResult(new ConditionalExpr(isFound.clone(), saveOne,
+                buildBatchResult(names, index.clone(), new IntegerLiteralExpr("404"), new NullLiteralExpr())))));
+
+        BlockStmt chunkStmt = new BlockStmt();
+        chunkStmt.addStatement(new VariableDeclarationExpr(new VariableDeclarator(
+                typeUtils.getClassOrInterfaceType(String.format("List<%s>", idType)), "ids", ids)));
+        chunkStmt.addStatement(buildFoundDeclaration(idType, "ids"));
+        chunkStmt.addStatement(new TryStmt(saveStmt, new NodeList<>(buildCatchClause(retryStmt)), null));
+
+        BlockStmt blockStmt = new BlockStmt();
+        blockStmt.addStatement(buildResultsDeclaration(names));
+        blockStmt.addStatement(buildChunkLoop(names.getResourceClassName(), names.getResourceListVariableName(), chunkStmt));
+        blockStmt.addStatement(new ReturnStmt(new NameExpr("results")));
+
+        Parameter listParameter = new Parameter();
+        listParameter.setType(typeUtils.getClassOrInterfaceType(String.format("List<%s>", names.getResourceClassName())));
+        listParameter.setName(names.getResourceListVariableName());
+
+        MethodDeclaration updateAllMethod = serviceClass.addMethod("updateAll", Modifier.Keyword.PUBLIC);
+        updateAllMethod.setType(typeUtils.getClassOrInterfaceType(String.format("List<%s>", names.getBatchResultClassName())));
+        updateAllMethod.addParameter(listParameter);
+        updateAllMethod.setBody(blockStmt);
+    }
+
+    /**
+     * The ids not found are reported as not found, and a chunk that fails is deleted again one id at a time.
+     */
+    private void addDeleteAllMethod(GenerationContext context, ClassOrInterfaceDeclaration serviceClass, EntityNames names, String idType) {
+
+        //JPA deletes a chunk with a single DELETE ... WHERE id IN, the other repositories with their bulk delete
+        String deleteMethod = context.isJpa() ? "deleteAllByIdInBatch" : "deleteAllById";
+        Expression index = new BinaryExpr(new NameExpr("from"), new NameExpr("i"), BinaryExpr.Operator.PLUS);
+        MethodCallExpr item = new MethodCallExpr(new NameExpr("chunk"), "get", argumentUtils.buildNameArgument("i"));
+        MethodCallExpr isFound = new MethodCallExpr(new NameExpr("found"), "contains", argumentUtils.buildArguments(item));
+        MethodCallExpr foundIds = buildCollectList(new MethodCallExpr(new MethodCallExpr(new NameExpr("chunk"), "stream"), "filter",
+                argumentUtils.buildArguments(new MethodReferenceExpr(new NameExpr("found"), null, "contains"))));
+
+        BlockStmt deleteStmt = new BlockStmt();
+        deleteStmt.addStatement(new MethodCallExpr(new NameExpr(names.getRepositoryVariableName()), deleteMethod,
+                argumentUtils.buildArguments(foundIds)));
+        deleteStmt.addStatement(buildItemLoop(buildAddResult(buildBatchResult(names, index,
+                new ConditionalExpr(isFound, new IntegerLiteralExpr("204"), new IntegerLiteralExpr("404")), new NullLiteralExpr()))));
+
+        BlockStmt retryStmt = new BlockStmt();
+        retryStmt.addStatement(buildItemLoop(buildAddResult(new ConditionalExpr(isFound.clone(),
+                new MethodCallExpr(null, "deleteOne", argumentUtils.buildArguments(index.clone(), item.clone())),
+                buildBatchResult(names, index.clone(), new IntegerLiteralExpr("404"), new NullLiteralExpr())))));
+
+        BlockStmt chunkStmt = new BlockStmt();
+        chunkStmt.addStatement(buildFoundDeclaration(idType, "chunk"));
+        chunkStmt.addStatement(new TryStmt(deleteStmt, new NodeList<>(buildCatchClause(retryStmt)), null));
+
+        BlockStmt blockStmt = new BlockStmt();
+        blockStmt.addStatement(buildResultsDeclaration(names));
+        blockStmt.addStatement(buildChunkLoop(idType, "ids", chunkStmt));
+        blockStmt.addStatement(new ReturnStmt(new NameExpr("results")));
+
+        Parameter idsParameter = new Parameter();
+        idsParameter.setType(typeUtils.getClassOrInterfaceType(String.format("List<%s>", idType)));
+        idsParameter.setName("ids");
+
+        MethodDeclaration deleteAllMethod = serviceClass.addMethod("deleteAll", Modifier.Keyword.PUBLIC);
+        deleteAllMethod.setType(typeUtils.getClassOrInterfaceType(String.format("List<%s>", names.getBatchResultClassName())));
+        deleteAllMethod.addParameter(idsParameter);
+        deleteAllMethod.setBody(blockStmt);
+    }
+
+    private void addDeleteOneMethod(ClassOrInterfaceDeclaration serviceClass, EntityNames names, String idType) {
+
+        BlockStmt deleteStmt = new BlockStmt();
+        deleteStmt.addStatement(new MethodCallExpr(new NameExpr(names.getRepositoryVariableName()), "deleteById", argumentUtils.buildNameArgument("id")));
+        deleteStmt.addStatement(new ReturnStmt(buildBatchResult(names, new NameExpr("index"), new IntegerLiteralExpr("204"), new NullLiteralExpr())));
+
+        BlockStmt failedStmt = new BlockStmt();
+        failedStmt.addStatement(new ReturnStmt(buildBatchResult(names, new NameExpr("index"), new IntegerLiteralExpr("400"),
+                new MethodCallExpr(new NameExpr("e"), "getMessage"))));
+
+        BlockStmt blockStmt = new BlockStmt();
+        blockStmt.addStatement(new TryStmt(deleteStmt, new NodeList<>(buildCatchClause(failedStmt)), null));
+
+        MethodDeclaration deleteOneMethod = serviceClass.addMethod("deleteOne", Modifier.Keyword.PRIVATE);
+        deleteOneMethod.setType(typeUtils.getClassOrInterfaceType(names.getBatchResultClassName()));
+        deleteOneMethod.addParameter(PrimitiveType.intType(), "index");
+        deleteOneMethod.addParameter(buildIdParameter(idType));
+        deleteOneMethod.setBody(blockStmt);
+    }
+
+    /**
+     * One findAllById per chunk. The ids are read from the fields, the getters of the generated classes are only
+     * written by Lombok.
+     */
+    private void addFindExistingIdsMethod(ClassOrInterfaceDeclaration serviceClass, EntityNames names, String idType, Field id) {
+
+        MethodCallExpr nonNullIds = buildCollectList(new MethodCallExpr(new MethodCallExpr(new NameExpr("ids"), "stream"), "filter",
+                argumentUtils.buildArguments(new MethodReferenceExpr(new NameExpr("Objects"), null, "nonNull"))));
+        MethodCallExpr findAllById = new MethodCallExpr(new NameExpr(names.getRepositoryVariableName()), "findAllById",
+                argumentUtils.buildArguments(nonNullIds));
+
+        BlockStmt addStmt = new BlockStmt();
+        addStmt.addStatement(new MethodCallExpr(new NameExpr("found"), "add",
+                argumentUtils.buildArguments(buildReadId(idType, id, names.getEntityVariableName()))));
+
+        BlockStmt blockStmt = new BlockStmt();
+        blockStmt.addStatement(new VariableDeclarationExpr(new VariableDeclarator(
+                typeUtils.getClassOrInterfaceType(String.format("Set<%s>", idType)),
+                "found",
+                new ObjectCreationExpr().setType(typeUtils.getClassOrInterfaceType("HashSet<>")))));
+        blockStmt.addStatement(new ForEachStmt(
+                new VariableDeclarationExpr(typeUtils.getClassOrInterfaceType(names.getEntityClassName()), names.getEntityVariableName()),
+                findAllById,
+                addStmt));
+        blockStmt.addStatement(new ReturnStmt(new NameExpr("found")));
+
+        Parameter idsParameter = new Parameter();
+        idsParameter.setType(typeUtils.getClassOrInterfaceType(String.format("List<%s>", idType)));
+        idsParameter.setName("ids");
+
+        MethodDeclaration findExistingIdsMethod = serviceClass.addMethod("findExistingIds", Modifier.Keyword.PRIVATE);
+        findExistingIdsMethod.setType(typeUtils.getClassOrInterfaceType(String.format("Set<%s>", idType)));
+        findExistingIdsMethod.addParameter(idsParameter);
+        findExistingIdsMethod.setBody(blockStmt);
+    }
+
+    private void addGetResourceIdMethod(ClassOrInterfaceDeclaration serviceClass, EntityNames names, String idType, Field id) {
+
+        BlockStmt blockStmt = new BlockStmt();
+        blockStmt.addStatement(new ReturnStmt(buildReadId(idType, id, names.getResourceVariableName())));
+
+        MethodDeclaration getResourceIdMethod = serviceClass.addMethod("getResourceId", Modifier.Keyword.PRIVATE);
+        getResourceIdMethod.setType(typeUtils.getType(idType));
+        getResourceIdMethod.addParameter(buildResourceParameter(names));
+        getResourceIdMethod.setBody(blockStmt);
+    }
+
+    private CastExpr buildReadId(String idType, Field id, String variableName) {
+        ObjectCreationExpr accessor = new ObjectCreationExpr()
+                .setType(typeUtils.getClassOrInterfaceType("DirectFieldAccessor"))
+                .setArguments(argumentUtils.buildNameArgument(variableName));
+        return new CastExpr(typeUtils.getType(idType), new MethodCallExpr(accessor, "getPropertyValue",
+                argumentUtils.buildArguments(new StringLiteralExpr(id.getName()))));
+    }
+
+    private VariableDeclarationExpr buildFoundDeclaration(String idType, String idsVariableName) {
+        return new VariableDeclarationExpr(new VariableDeclarator(
+                typeUtils.getClassOrInterfaceType(String.format("Set<%s>", idType)),
+                "found",
+                new MethodCallExpr(null, "findExistingIds", argumentUtils.buildNameArgument(idsVariableName))));
+    }
+
+    private MethodCallExpr buildCollectList(Expression stream) {
+        return new MethodCallExpr(stream, "collect", argumentUtils.buildArguments(new MethodCallExpr(new NameExpr("Collectors"), "toList")));
+    }
+
+    private VariableDeclarationExpr buildResultsDeclaration(EntityNames names) {
+        return new VariableDeclarationExpr(new VariableDeclarator(
+                typeUtils.getClassOrInterfaceType(String.format("List<%s>", names.getBatchResultClassName())),
+                "results",
+                new ObjectCreationExpr().setType(typeUtils.getClassOrInterfaceType("ArrayList<>"))));
+    }
+
+    private ForStmt buildChunkLoop(String itemType, String listVariableName, BlockStmt chunkStmt) {
+        MethodCallExpr size = new MethodCallExpr(new NameExpr(listVariableName), "size");
+        MethodCallExpr end = new MethodCallExpr(new NameExpr("Math"), "min", argumentUtils.buildArguments(
+                new BinaryExpr(new NameExpr("from"), new NameExpr("BATCH_SIZE"), BinaryExpr.Operator.PLUS),
+                size.clone()));
+        chunkStmt.addStatement(0, new VariableDeclarationExpr(new VariableDeclarator(
+                typeUtils.getClassOrInterfaceType(String.format("List<%s>", itemType)),
+                "chunk",
+                new MethodCallExpr(new NameExpr(listVariableName), "subList", argumentUtils.buildArguments(new NameExpr("from"), end)))));
+
+        return new ForStmt(
+                new NodeList<>(new VariableDeclarationExpr(new VariableDeclarator(PrimitiveType.intType(), "from", new IntegerLiteralExpr("0")))),
+                new BinaryExpr(new NameExpr("from"), size, BinaryExpr.Operator.LESS),
+                new NodeList<>(new AssignExpr(new NameExpr("from"), new NameExpr("BATCH_SIZE"), AssignExpr.Operator.PLUS)),
+                chunkStmt);
+    }
+
+    private ForStmt buildItemLoop(Statement itemStmt) {
+        BlockStmt blockStmt = new BlockStmt();
+        blockStmt.addStatement(itemStmt);
+        return new ForStmt(
+                new NodeList<>(new VariableDeclarationExpr(new VariableDeclarator(PrimitiveType.intType(), "i", new IntegerLiteralExpr("0")))),
+                new BinaryExpr(new NameExpr("i"), new MethodCallExpr(new NameExpr("chunk"), "size"), BinaryExpr.Operator.LESS),
+                new NodeList<>(new UnaryExpr(new NameExpr("i"), UnaryExpr.Operator.POSTFIX_INCREMENT)),
+                blockStmt);
+    }
+
+    private ExpressionStmt buildAddResult(Expression result) {
+        return new ExpressionStmt(new MethodCallExpr(new NameExpr("results"), "add", argumentUtils.buildArguments(result)));
+    }
+
+    private ObjectCreationExpr buildBatchResult(EntityNames names, Expression index, Expression status, Expression error) {
+        return new ObjectCreationExpr()
+                .setType(typeUtils.getClassOrInterfaceType(names.getBatchResultClassName()))
+                .setArguments(argumentUtils.buildArguments(index, status, error));
+    }
+
+    private CatchClause buildCatchClause(BlockStmt catchStmt) {
+        return new CatchClause(new Parameter(typeUtils.getClassOrInterfaceType("RuntimeException"), "e"), catchStmt);
+    }
+
+    private MethodCallExpr buildToResponse(Expression publisher, EntityNames names) {
+        return new MethodCallExpr(publisher, "map", argumentUtils.buildArguments(
+                new MethodReferenceExpr(new NameExpr(names.getMapperVariableName()), null, names.getToResponseMethod())));
+    }
+
+    private MethodCallExpr buildPageSize() {
+        return new MethodCallExpr(new NameExpr("Math"), "min", argumentUtils.buildArguments(
+                new MethodCallExpr(new NameExpr("pageable"), "getPageSize"),
+                new NameExpr("MAX_PAGE_SIZE")));
+    }
+
+    private VariableDeclarator buildPageDeclaration(MethodCallExpr pageRequest) {
+        return new VariableDeclarator(typeUtils.getClassOrInterfaceType("Pageable"), "page", pageRequest);
+    }
+
+    private void addSaveMethod(ClassOrInterfaceDeclaration serviceClass, EntityNames names) {
+
+        MethodCallExpr toEntity = new MethodCallExpr(
+                new NameExpr(names.getMapperVariableName()),
+                names.getToEntityMethod(),
+                argumentUtils.buildNameArgument(names.getResourceVariableName()));
+        VariableDeclarator entityDeclaration = new VariableDeclarator(
+                typeUtils.getClassOrInterfaceType(names.getEntityClassName()),
+                names.getEntityVariableName(),
+                toEntity);
+
+        MethodCallExpr saveExpr = new MethodCallExpr(
+                new NameExpr(names.getRepositoryVariableName()),
+                "save",
+                argumentUtils.buildNameArgument(names.getEntityVariableName()));
+        MethodCallExpr toResponse = new MethodCallExpr(new NameExpr(names.getMapperVariableName()),
+                names.getToResponseMethod(),
+                argumentUtils.buildArguments(saveExpr));
+
+        BlockStmt blockStmt = new BlockStmt();
+        blockStmt.addStatement(new VariableDeclarationExpr(entityDeclaration));
+        blockStmt.addStatement(new ReturnStmt(toResponse));
+
+        MethodDeclaration saveMethod = serviceClass.addMethod("save", Modifier.Keyword.PUBLIC);
+        saveMethod.setType(typeUtils.getClassOrInterfaceType(names.getResponseClassName()));
+        saveMethod.addParameter(buildResourceParameter(names));
+        saveMethod.setBody(blockStmt);
+    }
+
+    private void addDeleteMethod(ClassOrInterfaceDeclaration serviceClass, EntityNames names, String idType) {
+
+        MethodCallExpr deleteExpr =  new MethodCallExpr(new NameExpr(names.getRepositoryVariableName()), "deleteById", argumentUtils.buildNameArgument("id"));
+
+        BlockStmt blockStmt = new BlockStmt();
+        blockStmt.addStatement(deleteExpr);
+
+        MethodDeclaration deleteMethod = serviceClass.addMethod("delete", Modifier.Keyword.PUBLIC);
+        deleteMethod.setType(new VoidType());
+        deleteMethod.addParameter(buildIdParameter(idType));
+        deleteMethod.setBody(blockStmt);
+    }
+
+    private Parameter buildIdParameter(String idType) {
+        Parameter parameter = new Parameter();
+        parameter.setType(typeUtils.getType(idType));
+        parameter.setName("id");
+        return parameter;
+    }
+
+    private Parameter buildPageableParameter() {
+        Parameter parameter = new Parameter();
+        parameter.setType(typeUtils.getClassOrInterfaceType("Pageable"));
+        parameter.setName("pageable");
+        return parameter;
+    }
+
+    private Parameter buildResourceParameter(EntityNames names) {
+        Parameter parameter = new Parameter();
+        parameter.setType(typeUtils.getClassOrInterfaceType(names.getResourceClassName()));
+        parameter.setName(names.getResourceVariableName());
+        return parameter;
+    }
+}
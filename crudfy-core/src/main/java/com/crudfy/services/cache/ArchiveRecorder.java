@@ -0,0 +1,51 @@
+package com.crudfy.services.cache;
+
+import java.io.ByteArrayOutputStream;
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+
+/**
+ * Passes an archive through to its destination while keeping a copy for the cache. The copy is dropped as soon as
+ * it goes over the limit, so an archive too large for the cache is never held in memory.
+ */
+public class ArchiveRecorder extends FilterOutputStream {
+
+    private final long limit;
+    private ByteArrayOutputStream copy = new ByteArrayOutputStream();
+
+    public ArchiveRecorder(OutputStream destination, long limit) {
+        super(destination);
+        this.limit = limit;
+    }
+
+    @Override
+    public void write(int b) throws IOException {
+        out.write(b);
+        if (record(1)) {
+            copy.write(b);
+        }
+    }
+
+    @Override
+    public void write(byte[] b, int off, int len) throws IOException {
+        out.write(b, off, len);
+        if (record(len)) {
+            copy.write(b, off, len);
+        }
+    }
+
+    /**
+     * Recorded archive, or null when it went over the limit.
+     */
+    public byte[] getArchive() {
+        return copy != null ? copy.toByteArray() : null;
+    }
+
+    private boolean record(int length) {
+        if (copy != null && copy.size() + length > limit) {
+            copy = null;
+        }
+        return copy != null;
+    }
+}
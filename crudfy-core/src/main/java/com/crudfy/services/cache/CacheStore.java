@@ -0,0 +1,24 @@
+package com.crudfy.services.cache;
+
+import java.io.IOException;
+import java.util.Map;
+
+/**
+ * Where the archives of the generation cache are kept. Eviction is decided by {@link GenerationCache}.
+ */
+public interface CacheStore {
+
+    /**
+     * Archive stored under the key, or null when it is not there anymore.
+     */
+    byte[] read(String key) throws IOException;
+
+    void write(String key, byte[] archive) throws IOException;
+
+    void delete(String key) throws IOException;
+
+    /**
+     * Sizes of the archives already stored, from the least to the most recently used.
+     */
+    Map<String, Long> list() throws IOException;
+}
@@ -0,0 +1,84 @@
+package com.crudfy.services.cache;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.FileTime;
+import java.time.Instant;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Keeps every archive as a file named after its key, so the cache survives restarts.
+ */
+public class DiskCacheStore implements CacheStore {
+
+    private static final String EXTENSION = ".zip";
+
+    private final Path directory;
+
+    public DiskCacheStore(String directory) throws IOException {
+        this.directory = Paths.get(directory);
+        Files.createDirectories(this.directory);
+    }
+
+    @Override
+    public byte[] read(String key) throws IOException {
+        try {
+            byte[] archive = Files.readAllBytes(getFile(key));
+            //The modification time keeps the recency order across restarts
+            Files.setLastModifiedTime(getFile(key), FileTime.from(Instant.now()));
+            return archive;
+        } catch (NoSuchFileException e) {
+            return null;
+        }
+    }
+
+    @Override
+    public void write(String key, byte[] archive) throws IOException {
+        //Written aside and moved, so a reader never sees a partial archive
+        Path temporary = Files.createTempFile(directory, key, ".tmp");
+        Files.write(temporary, archive);
+        Files.move(temporary, getFile(key), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    @Override
+    public void delete(String key) throws IOException {
+        Files.deleteIfExists(getFile(key));
+    }
+
+    @Override
+    public Map<String, Long> list() throws IOException {
+        List<Path> files;
+        try (Stream<Path> paths = Files.list(directory)) {
+            files = paths.filter(file -> file.getFileName().toString().endsWith(EXTENSION))
+                    .sorted(Comparator.comparing(this::getLastModified))
+                    .collect(Collectors.toList());
+        }
+        Map<String, Long> sizes = new LinkedHashMap<>();
+        for (Path file : files) {
+            String name = file.getFileName().toString();
+            sizes.put(name.substring(0, name.length() - EXTENSION.length()), Files.size(file));
+        }
+        return sizes;
+    }
+
+    private Path getFile(String key) {
+        return directory.resolve(key + EXTENSION);
+    }
+
+    private long getLastModified(Path file) {
+        try {
+            return Files.getLastModifiedTime(file).toMillis();
+        } catch (IOException e) {
+            return 0;
+        }
+    }
+}
@@ -0,0 +1,186 @@
+package com.crudfy.services.cache;
+
+import com.crudfy.domains.resources.ComponentResource;
+import com.crudfy.services.GenerationMetrics;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.MapperFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PostConstruct;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Archives of previous generations, keyed by a hash of the spec without its path. Identical specs sent again
+ * are restored from the archive instead of running the builders. The least recently used archives are evicted
+ * once the total size goes over the limit.
+ */
+@Component
+public class GenerationCache {
+
+    //Bump when the generated code changes, so archives of a previous generator are not reused
+    private static final String FORMAT = "12";
+
+    @Value("${crudfy.cache.type:none}")
+    private String type;
+
+    @Value("${crudfy.cache.directory:${java.io.tmpdir}/crudfy-cache}")
+    private String directory;
+
+    @Value("${crudfy.cache.max-size-mb:256}")
+    private long maxSizeMb;
+
+    @Value("${crudfy.output.line-ending:SYSTEM}")
+    private String lineEnding;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private GenerationMetrics metrics;
+
+    private CacheStore store;
+    private ObjectMapper canonicalMapper;
+    private long maxSize;
+
+    //Access ordered, the first key is the least recently used
+    private final LinkedHashMap<String, Long> sizes = new LinkedHashMap<>(16, 0.75f, true);
+    private long totalSize;
+
+    @PostConstruct
+    private void createStore() throws IOException {
+        switch (type.trim().toLowerCase()) {
+            case "none":
+                return;
+            case "memory":
+                store = new MemoryCacheStore();
+                break;
+            case "disk":
+                store = new DiskCacheStore(directory);
+                break;
+            default:
+                throw new IllegalArgumentException(String.format("Tipo de cache invalido '%s'. Use none, memory ou disk", type));
+        }
+        maxSize = maxSizeMb * 1024 * 1024;
+        canonicalMapper = objectMapper.copy()
+                .configure(MapperFeature.SORT_PROPERTIES_ALPHABETICALLY, true)
+                .configure(SerializationFeature.ORDER_MAP_ENTRIES_BY_KEYS, true)
+                .configure(SerializationFeature.INDENT_OUTPUT, false);
+
+        List<String> evicted;
+        synchronized (this) {
+            store.list().forEach(this::add);
+            evicted = evict();
+        }
+        delete(evicted);
+        metrics.registerCache(this);
+    }
+
+    public boolean isEnabled() {
+        return store != null;
+    }
+
+    /**
+     * SHA-256 of the spec serialized with sorted properties, without the path, plus the settings that change the output.
+     */
+    public String getKey(ComponentResource resource) {
+        try {
+            ObjectNode spec = canonicalMapper.valueToTree(resource);
+            spec.remove("path");
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            digest.update(String.format("%s|%s|%s|", FORMAT, GenerationCache.class.getPackage().getImplementationVersion(),
+                    lineEnding).getBytes(StandardCharsets.UTF_8));
+            digest.update(canonicalMapper.writeValueAsBytes(spec));
+            StringBuilder key = new StringBuilder();
+            for (byte b : digest.digest()) {
+                key.append(String.format("%02x", b));
+            }
+            return key.toString();
+        } catch (JsonProcessingException | NoSuchAlgorithmException e) {
+            throw new IllegalStateException("Erro no calculo da chave de cache", e);
+        }
+    }
+
+    /**
+     * Stored archive of the key, or null on a miss.
+     */
+    public byte[] get(String key) {
+        synchronized (this) {
+            if (!sizes.containsKey(key)) {
+                return null;
+            }
+            //Marks the key as the most recently used
+            sizes.get(key);
+        }
+        try {
+            return store.read(key);
+        } catch (IOException e) {
+            //A broken archive is generated again
+            return null;
+        }
+    }
+
+    public void put(String key, byte[] archive) throws IOException {
+        if (archive.length > maxSize) {
+            return;
+        }
+        store.write(key, archive);
+        List<String> evicted;
+        synchronized (this) {
+            add(key, (long) archive.length);
+            evicted = evict();
+        }
+        delete(evicted);
+    }
+
+    /**
+     * Largest archive kept by the cache, in bytes.
+     */
+    public long getMaxSize() {
+        return maxSize;
+    }
+
+    public synchronized long getSize() {
+        return totalSize;
+    }
+
+    public synchronized int getEntries() {
+        return sizes.size();
+    }
+
+    private void add(String key, Long size) {
+        Long previous = sizes.put(key, size);
+        totalSize += size - (previous != null ? previous : 0);
+    }
+
+    private List<String> evict() {
+        List<String> evicted = new ArrayList<>();
+        Iterator<Map.Entry<String, Long>> eldest = sizes.entrySet().iterator();
+        while (totalSize > maxSize && eldest.hasNext()) {
+            Map.Entry<String, Long> entry = eldest.next();
+            totalSize -= entry.getValue();
+            evicted.add(entry.getKey());
+            eldest.remove();
+        }
+        return evicted;
+    }
+
+    private void delete(List<String> keys) throws IOException {
+        for (String key : keys) {
+            store.delete(key);
+            metrics.countCacheEviction();
+        }
+    }
+}
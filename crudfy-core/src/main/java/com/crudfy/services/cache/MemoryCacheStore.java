@@ -0,0 +1,33 @@
+package com.crudfy.services.cache;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Keeps the archives on the heap, they are lost on restart.
+ */
+public class MemoryCacheStore implements CacheStore {
+
+    private final Map<String, byte[]> archives = new ConcurrentHashMap<>();
+
+    @Override
+    public byte[] read(String key) {
+        return archives.get(key);
+    }
+
+    @Override
+    public void write(String key, byte[] archive) {
+        archives.put(key, archive);
+    }
+
+    @Override
+    public void delete(String key) {
+        archives.remove(key);
+    }
+
+    @Override
+    public Map<String, Long> list() {
+        return Collections.emptyMap();
+    }
+}
@@ -0,0 +1,141 @@
+package com.crudfy.services.input;
+
+import com.crudfy.domains.exceptions.ResourceValidationException;
+import com.crudfy.domains.resources.ComponentResource;
+import com.crudfy.domains.resources.Database;
+import com.crudfy.domains.resources.Entity;
+import com.crudfy.domains.resources.GenerationEngine;
+import com.crudfy.domains.resources.Structure;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Set;
+
+/**
+ * Reads a ComponentResource one entity at a time, so a spec is never fully loaded in memory.
+ * The project fields (path, projectName, projectStructure, database, engine) must come before "entities".
+ */
+public class ComponentResourceStream implements Closeable {
+
+    private static final Set<String> HEADER_FIELDS = Set.of("path", "projectName", "projectStructure", "database", "engine", "reactive",
+            "defaultPageSize", "maxPageSize", "exportChunkSize", "batchSize");
+
+    private final ObjectMapper mapper;
+    private final JsonParser parser;
+    private final ComponentResource header = new ComponentResource();
+    private boolean inEntities;
+
+    private ComponentResourceStream(ObjectMapper mapper, InputStream input) throws IOException {
+        this.mapper = mapper;
+        this.parser = mapper.getFactory().createParser(input);
+        readHeader();
+    }
+
+    public static ComponentResourceStream open(ObjectMapper mapper, InputStream input) throws IOException {
+        return new ComponentResourceStream(mapper, input);
+    }
+
+    /**
+     * Project fields of the spec. Its entity list is always null.
+     */
+    public ComponentResource getHeader() {
+        return header;
+    }
+
+    /**
+     * Next entity of the spec, or null after the last one.
+     */
+    public Entity next() throws IOException {
+        if (!inEntities) {
+            return null;
+        }
+        JsonToken token = parser.nextToken();
+        if (token == JsonToken.END_ARRAY) {
+            inEntities = false;
+            readTrailer();
+            return null;
+        }
+        return mapper.readValue(parser, Entity.class);
+    }
+
+    @Override
+    public void close() throws IOException {
+        parser.close();
+    }
+
+    private void readHeader() throws IOException {
+        if (parser.nextToken() != JsonToken.START_OBJECT) {
+            throw new ResourceValidationException("A especificacao deve ser um objeto JSON");
+        }
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.getCurrentName();
+            JsonToken value = parser.nextToken();
+            if ("entities".equals(field)) {
+                if (value == JsonToken.START_ARRAY) {
+                    inEntities = true;
+                    break;
+                }
+                parser.skipChildren();
+            } else {
+                readHeaderField(field);
+            }
+        }
+        if (header.getPath() == null || header.getProjectName() == null) {
+            throw new ResourceValidationException("Os campos path e projectName devem ser informados antes de entities");
+        }
+    }
+
+    private void readHeaderField(String field) throws IOException {
+        switch (field) {
+            case "path":
+                header.setPath(parser.getValueAsString());
+                break;
+            case "projectName":
+                header.setProjectName(parser.getValueAsString());
+                break;
+            case "projectStructure":
+                header.setProjectStructure(mapper.readValue(parser, Structure.class));
+                break;
+            case "database":
+                header.setDatabase(mapper.readValue(parser, Database.class));
+                break;
+            case "engine":
+                header.setEngine(mapper.readValue(parser, GenerationEngine.class));
+                break;
+            case "reactive":
+                header.setReactive(mapper.readValue(parser, boolean.class));
+                break;
+            case "defaultPageSize":
+                header.setDefaultPageSize(mapper.readValue(parser, int.class));
+                break;
+            case "maxPageSize":
+                header.setMaxPageSize(mapper.readValue(parser, int.class));
+                break;
+            case "exportChunkSize":
+                header.setExportChunkSize(mapper.readValue(parser, int.class));
+                break;
+            case "batchSize":
+                header.setBatchSize(mapper.readValue(parser, int.class));
+                break;
+            default:
+                //Unknown fields are ignored, as in the request body binding
+                parser.skipChildren();
+        }
+    }
+
+    private void readTrailer() throws IOException {
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.getCurrentName();
+            if (HEADER_FIELDS.contains(field)) {
+                //The project was already generated with the values read before the entities
+                throw new ResourceValidationException(String.format("O campo %s deve vir antes de entities", field));
+            }
+            parser.nextToken();
+            parser.skipChildren();
+        }
+    }
+}
@@ -0,0 +1,10 @@
+package com.crudfy.services.output;
+
+import java.io.IOException;
+import java.io.Writer;
+
+@FunctionalInterface
+public interface ContentWriter {
+
+    void writeTo(Writer writer) throws IOException;
+}
@@ -0,0 +1,63 @@
+package com.crudfy.services.output;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Renders the project without keeping it, only the number of files and their size in UTF-8 are counted.
+ */
+public class DryRunOutputSink implements OutputSink {
+
+    private final Set<String> directories = ConcurrentHashMap.newKeySet();
+    private final AtomicInteger filesWritten = new AtomicInteger();
+    private final AtomicLong bytesWritten = new AtomicLong();
+
+    @Override
+    public void createDirectories(String path) {
+        directories.add(path);
+    }
+
+    @Override
+    public void write(String path, ContentWriter content) throws IOException {
+        ByteCounter counter = new ByteCounter();
+        try (Writer writer = new OutputStreamWriter(counter, StandardCharsets.UTF_8)) {
+            content.writeTo(writer);
+        }
+        filesWritten.incrementAndGet();
+        bytesWritten.addAndGet(counter.count);
+    }
+
+    public int getFilesWritten() {
+        return filesWritten.get();
+    }
+
+    public long getBytesWritten() {
+        return bytesWritten.get();
+    }
+
+    public int getDirectoriesCreated() {
+        return directories.size();
+    }
+
+    private static class ByteCounter extends OutputStream {
+
+        private long count;
+
+        @Override
+        public void write(int b) {
+            count++;
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) {
+            count += len;
+        }
+    }
+}
@@ -0,0 +1,294 @@
+package com.crudfy.services.output;
+
+import org.springframework.util.FileSystemUtils;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Writes the project on the local disk. Only the files whose content changed since the manifest of the previous
+ * generation are rewritten, through a staging directory moved into place by {@link #finish()}.
+ */
+public class FileSystemOutputSink implements OutputSink {
+
+    public static final String MANIFEST_FILE = ".crudfy-manifest";
+    public static final String STAGING_PREFIX = ".crudfy-staging-";
+    private static final String BACKUP_DIRECTORY = ".crudfy-backup";
+
+    private final Path root;
+    private final Path staging;
+    private final Path backup;
+    private final boolean rootExisted;
+    private final Set<Path> directories = ConcurrentHashMap.newKeySet();
+    private final Map<String, Path> stagedFiles = new ConcurrentHashMap<>();
+    private final Map<String, String> previousHashes;
+    private final Map<String, String> hashes = new ConcurrentHashMap<>();
+    private final AtomicInteger filesWritten = new AtomicInteger();
+    private final AtomicInteger filesSkipped = new AtomicInteger();
+    private final AtomicLong bytesWritten = new AtomicLong();
+    private int filesDeleted;
+    private boolean keepStaging;
+
+    public FileSystemOutputSink(String root) throws IOException {
+        this.root = Paths.get(root);
+        //Inside the project, so the moves never cross file systems
+        this.staging = this.root.resolve(STAGING_PREFIX + UUID.randomUUID());
+        this.backup = this.staging.resolve(BACKUP_DIRECTORY);
+        this.rootExisted = Files.exists(this.root);
+        this.previousHashes = readManifest();
+    }
+
+    @Override
+    public void createDirectories(String path) {
+        directories.add(Paths.get(path));
+    }
+
+    @Override
+    public void write(String path, ContentWriter content) throws IOException {
+        RenderBuffer bytes = new RenderBuffer();
+        try (Writer writer = new OutputStreamWriter(bytes, StandardCharsets.UTF_8)) {
+            content.writeTo(writer);
+        }
+
+        Path file = Paths.get(path);
+        String key = getManifestKey(file);
+        String hash = hash(bytes.toByteBuffer());
+        hashes.put(key, hash);
+
+        if (hash.equals(previousHashes.get(key)) && Files.exists(file) && Files.size(file) == bytes.size()) {
+            filesSkipped.incrementAndGet();
+        } else {
+            Path stagedFile = staging.resolve(key);
+            Files.createDirectories(stagedFile.getParent());
+            writeFile(stagedFile, bytes.toByteBuffer());
+            stagedFiles.put(key, stagedFile);
+            filesWritten.incrementAndGet();
+            bytesWritten.addAndGet(bytes.size());
+        }
+    }
+
+    /**
+     * Moves the staged files into the project, removes the files left from a previous generation and saves the new
+     * manifest, the last step. The files replaced or removed are moved to a backup first, so if a step fails the
+     * project is left with the previous files and manifest, only the directories created may remain.
+     */
+    public void finish() throws IOException {
+        //Keys of the files changed so far, in order
+        List<String> changed = new ArrayList<>();
+        int deleted = 0;
+        try {
+            for (Path directory : directories) {
+                Files.createDirectories(directory);
+            }
+            for (Map.Entry<String, Path> stagedFile : new TreeMap<>(stagedFiles).entrySet()) {
+                replace(stagedFile.getKey(), stagedFile.getValue(), changed);
+            }
+            for (String key : new TreeMap<>(previousHashes).keySet()) {
+                if (!hashes.containsKey(key) && Files.exists(root.resolve(key))) {
+                    backUp(key, changed);
+                    deleteEmptyParents(root.resolve(key));
+                    deleted++;
+                }
+            }
+            replace(MANIFEST_FILE, writeManifest(), changed);
+        } catch (IOException | RuntimeException e) {
+            rollback(changed, e);
+            throw e;
+        }
+        filesDeleted = deleted;
+        try {
+            FileSystemUtils.deleteRecursively(staging);
+        } catch (IOException e) {
+            //The project is complete, only the staged copies are left behind
+        }
+    }
+
+    /**
+     * Drops the staged files of a failed generation. The project directory is removed if this generation created it.
+     */
+    public void abort() {
+        if (keepStaging) {
+            return;
+        }
+        try {
+            FileSystemUtils.deleteRecursively(staging);
+            if (!rootExisted && isEmpty(root)) {
+                Files.delete(root);
+            }
+        } catch (IOException e) {
+            //Best effort, the failure that caused the abort is the one reported
+        }
+    }
+
+    public int getFilesWritten() {
+        return filesWritten.get();
+    }
+
+    public int getFilesSkipped() {
+        return filesSkipped.get();
+    }
+
+    public int getFilesDeleted() {
+        return filesDeleted;
+    }
+
+    public long getBytesWritten() {
+        return bytesWritten.get();
+    }
+
+    private Map<String, String> readManifest() throws IOException {
+        Map<String, String> manifest = new HashMap<>();
+        Path manifestFile = root.resolve(MANIFEST_FILE);
+        if (Files.exists(manifestFile)) {
+            for (String line : Files.readAllLines(manifestFile, StandardCharsets.UTF_8)) {
+                //Same layout as sha256sum: "<hash>  <path>"
+                int separator = line.indexOf("  ");
+                if (separator > 0) {
+                    manifest.put(line.substring(separator + 2), line.substring(0, separator));
+                }
+            }
+        }
+        return manifest;
+    }
+
+    private Path writeManifest() throws IOException {
+        List<String> lines = new ArrayList<>();
+        new TreeMap<>(hashes).forEach((key, hash) -> lines.add(hash + "  " + key));
+        Path stagedManifest = staging.resolve(MANIFEST_FILE);
+        Files.createDirectories(staging);
+        Files.write(stagedManifest, lines, StandardCharsets.UTF_8);
+        return stagedManifest;
+    }
+
+    private void replace(String key, Path stagedFile, List<String> changed) throws IOException {
+        Path file = root.resolve(key);
+        Files.createDirectories(file.getParent());
+        if (Files.exists(file)) {
+            backUp(key, changed);
+        } else {
+            changed.add(key);
+        }
+        move(stagedFile, file);
+    }
+
+    private void backUp(String key, List<String> changed) throws IOException {
+        Path backupFile = backup.resolve(key);
+        Files.createDirectories(backupFile.getParent());
+        move(root.resolve(key), backupFile);
+        changed.add(key);
+    }
+
+    /**
+     * Puts back the backed up files and removes the new ones, the latest change first. If a file cannot be put back,
+     * the staging directory is kept with the backup in it.
+     */
+    private void rollback(List<String> changed, Exception failure) {
+        for (int i = changed.size() - 1; i >= 0; i--) {
+            Path file = root.resolve(changed.get(i));
+            Path backupFile = backup.resolve(changed.get(i));
+            try {
+                if (Files.exists(backupFile)) {
+                    Files.createDirectories(file.getParent());
+                    move(backupFile, file);
+                } else {
+                    Files.deleteIfExists(file);
+                    deleteEmptyParents(file);
+                }
+            } catch (IOException e) {
+                //The backup is kept in the staging directory, abort must not delete it
+                keepStaging = true;
+                failure.addSuppressed(e);
+            }
+        }
+    }
+
+    private void move(Path source, Path target) throws IOException {
+        try {
+            Files.move(source, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(source, target, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    private void deleteEmptyParents(Path file) throws IOException {
+        Path directory = file.getParent();
+        while (directory != null && directory.startsWith(root) && !directory.equals(root) && isEmpty(directory)) {
+            Files.delete(directory);
+            directory = directory.getParent();
+        }
+    }
+
+    private boolean isEmpty(Path directory) throws IOException {
+        if (!Files.isDirectory(directory)) {
+            return false;
+        }
+        try (DirectoryStream<Path> entries = Files.newDirectoryStream(directory)) {
+            return !entries.iterator().hasNext();
+        }
+    }
+
+    private String getManifestKey(Path file) {
+        return root.relativize(file).toString().replace('\\', '/');
+    }
+
+    private void writeFile(Path file, ByteBuffer data) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            while (data.hasRemaining()) {
+                channel.write(data);
+            }
+        }
+    }
+
+    private String hash(ByteBuffer data) {
+        try {
+            MessageDigest messageDigest = MessageDigest.getInstance("SHA-256");
+            messageDigest.update(data);
+            byte[] digest = messageDigest.digest();
+            StringBuilder hash = new StringBuilder(digest.length * 2);
+            for (byte b : digest) {
+                hash.append(String.format("%02x", b));
+            }
+            return hash.toString();
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * Rendered file kept in memory until it is hashed, handed to the channel without copying the array.
+     */
+    private static class RenderBuffer extends ByteArrayOutputStream {
+
+        RenderBuffer() {
+            super(8192);
+        }
+
+        ByteBuffer toByteBuffer() {
+            return ByteBuffer.wrap(buf, 0, count);
+        }
+    }
+}
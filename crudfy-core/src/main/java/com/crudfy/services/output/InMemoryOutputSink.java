@@ -0,0 +1,56 @@
+package com.crudfy.services.output;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+
+/**
+ * Keeps the generated project in memory, by path relative to the project root, for previews and tests.
+ */
+public class InMemoryOutputSink implements OutputSink {
+
+    private final String root;
+    private final Map<String, byte[]> files = new ConcurrentSkipListMap<>();
+    private final NavigableSet<String> directories = new ConcurrentSkipListSet<>();
+
+    public InMemoryOutputSink(String root) {
+        this.root = root;
+    }
+
+    @Override
+    public void createDirectories(String path) {
+        directories.add(OutputSink.relativePath(root, path));
+    }
+
+    @Override
+    public void write(String path, ContentWriter content) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (Writer writer = new OutputStreamWriter(bytes, StandardCharsets.UTF_8)) {
+            content.writeTo(writer);
+        }
+        files.put(OutputSink.relativePath(root, path), bytes.toByteArray());
+    }
+
+    /**
+     * Content of every file in UTF-8, sorted by path.
+     */
+    public Map<String, byte[]> getFiles() {
+        return Collections.unmodifiableMap(files);
+    }
+
+    public String getContent(String path) {
+        byte[] content = files.get(path);
+        return content != null ? new String(content, StandardCharsets.UTF_8) : null;
+    }
+
+    public NavigableSet<String> getDirectories() {
+        return Collections.unmodifiableNavigableSet(directories);
+    }
+}
@@ -0,0 +1,22 @@
+package com.crudfy.services.output;
+
+import java.io.IOException;
+
+/**
+ * Destination of the generated project. Paths are the ones built by {@link com.crudfy.services.utils.NameUtils}
+ * and may be written concurrently when the parallel generation is enabled.
+ */
+public interface OutputSink {
+
+    void createDirectories(String path);
+
+    void write(String path, ContentWriter content) throws IOException;
+
+    /**
+     * Path inside the project, for the sinks that do not keep the absolute paths.
+     */
+    static String relativePath(String root, String path) {
+        String relativePath = path.startsWith(root) ? path.substring(root.length()) : path;
+        return relativePath.startsWith("/") ? relativePath.substring(1) : relativePath;
+    }
+}
@@ -0,0 +1,33 @@
+package com.crudfy.services.output;
+
+import java.io.IOException;
+import java.io.StringWriter;
+
+/**
+ * Sends the generated project to two sinks, every file is rendered only once.
+ */
+public class TeeOutputSink implements OutputSink {
+
+    private final OutputSink primary;
+    private final OutputSink secondary;
+
+    public TeeOutputSink(OutputSink primary, OutputSink secondary) {
+        this.primary = primary;
+        this.secondary = secondary;
+    }
+
+    @Override
+    public void createDirectories(String path) {
+        primary.createDirectories(path);
+        secondary.createDirectories(path);
+    }
+
+    @Override
+    public void write(String path, ContentWriter content) throws IOException {
+        StringWriter rendered = new StringWriter();
+        content.writeTo(rendered);
+        String text = rendered.toString();
+        primary.write(path, writer -> writer.write(text));
+        secondary.write(path, writer -> writer.write(text));
+    }
+}
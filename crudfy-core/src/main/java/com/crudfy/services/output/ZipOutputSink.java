@@ -0,0 +1,68 @@
+package com.crudfy.services.output;
+
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+/**
+ * Writes every file as an entry of a zip stream as soon as it is generated, with names relative to the project root.
+ */
+public class ZipOutputSink implements OutputSink {
+
+    private final ZipOutputStream zip;
+    private final String root;
+    private final Writer writer;
+    private final Set<String> directories = new HashSet<>();
+    private int filesWritten;
+    private long bytesWritten;
+
+    public ZipOutputSink(ZipOutputStream zip, String root) {
+        this.zip = zip;
+        this.root = root;
+        this.writer = new OutputStreamWriter(zip, StandardCharsets.UTF_8);
+    }
+
+    @Override
+    public synchronized void createDirectories(String path) {
+        //Only needed for the empty directories, the files carry their own
+        String entryName = getEntryName(path);
+        if (!entryName.isEmpty() && directories.add(entryName)) {
+            try {
+                zip.putNextEntry(new ZipEntry(entryName + "/"));
+                zip.closeEntry();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+    }
+
+    @Override
+    public synchronized void write(String path, ContentWriter content) throws IOException {
+        ZipEntry entry = new ZipEntry(getEntryName(path));
+        zip.putNextEntry(entry);
+        content.writeTo(writer);
+        writer.flush();
+        zip.closeEntry();
+        filesWritten++;
+        //Uncompressed size, known once the entry is closed
+        bytesWritten += entry.getSize();
+    }
+
+    public synchronized int getFilesWritten() {
+        return filesWritten;
+    }
+
+    public synchronized long getBytesWritten() {
+        return bytesWritten;
+    }
+
+    private String getEntryName(String path) {
+        return OutputSink.relativePath(root, path);
+    }
+}
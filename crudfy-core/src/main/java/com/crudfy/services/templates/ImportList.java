@@ -0,0 +1,67 @@
+package com.crudfy.services.templates;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Imports of a template source, with the same rules as JavaParser's CompilationUnit.addImport: duplicates, java.lang
+ * and the class' own package are skipped, and an asterisk import replaces the imports of its package.
+ */
+public class ImportList {
+
+    private static final String JAVA_LANG = "java.lang";
+    private static final String ASTERISK = ".*";
+
+    private final String packageName;
+    private final List<String> imports = new ArrayList<>();
+
+    public ImportList(String packageName) {
+        this.packageName = packageName;
+    }
+
+    public ImportList add(String name) {
+        String importPackage = getPackage(name);
+        if (isAsterisk(name)) {
+            imports.removeIf(current -> Objects.equals(getPackage(current), importPackage));
+        }
+        if (!isImplicit(importPackage) && imports.stream().noneMatch(current -> current.equals(name)
+                || (isAsterisk(current) && Objects.equals(getPackage(current), importPackage)))) {
+            imports.add(name);
+        }
+        return this;
+    }
+
+    public ImportList addAll(List<String> names) {
+        names.forEach(this::add);
+        return this;
+    }
+
+    /**
+     * Import declarations followed by a blank line, or nothing when there is no import.
+     */
+    public String render(String lineSeparator) {
+        if (imports.isEmpty()) {
+            return "";
+        }
+        StringBuilder builder = new StringBuilder();
+        imports.forEach(name -> builder.append("import ").append(name).append(';').append(lineSeparator));
+        return builder.append(lineSeparator).toString();
+    }
+
+    private boolean isImplicit(String importPackage) {
+        return importPackage == null || JAVA_LANG.equals(importPackage) || importPackage.equals(packageName);
+    }
+
+    private static boolean isAsterisk(String name) {
+        return name.endsWith(ASTERISK);
+    }
+
+    private static String getPackage(String name) {
+        if (isAsterisk(name)) {
+            return name.substring(0, name.length() - ASTERISK.length());
+        }
+        int lastDot = name.lastIndexOf('.');
+        return lastDot < 0 ? null : name.substring(0, lastDot);
+    }
+}
@@ -0,0 +1,58 @@
+package com.crudfy.services.templates;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Template compiled once into literal text and ${name} substitution points, so rendering is only a sequence of
+ * writes. The line endings of the literal text are converted when the template is compiled.
+ */
+public class SourceTemplate {
+
+    private static final String START = "${";
+    private static final String END = "}";
+
+    private final String name;
+    private final String[] literals;
+    private final String[] placeholders;
+
+    private SourceTemplate(String name, List<String> literals, List<String> placeholders) {
+        this.name = name;
+        this.literals = literals.toArray(new String[0]);
+        this.placeholders = placeholders.toArray(new String[0]);
+    }
+
+    public static SourceTemplate compile(String name, String text, String lineSeparator) {
+        String source = text.replace("\r\n", "\n").replace("\n", lineSeparator);
+        List<String> literals = new ArrayList<>();
+        List<String> placeholders = new ArrayList<>();
+        int position = 0;
+        int start;
+        while ((start = source.indexOf(START, position)) >= 0) {
+            int end = source.indexOf(END, start);
+            if (end < 0) {
+                throw new IllegalArgumentException(String.format("Template %s: substituição sem fechamento na posição %s", name, start));
+            }
+            literals.add(source.substring(position, start));
+            placeholders.add(source.substring(start + START.length(), end));
+            position = end + END.length();
+        }
+        literals.add(source.substring(position));
+        return new SourceTemplate(name, literals, placeholders);
+    }
+
+    public void render(Map<String, String> values, Writer writer) throws IOException {
+        for (int i = 0; i < placeholders.length; i++) {
+            writer.write(literals[i]);
+            String value = values.get(placeholders[i]);
+            if (value == null) {
+                throw new IllegalStateException(String.format("Template %s: valor de '%s' não informado", name, placeholders[i]));
+            }
+            writer.write(value);
+        }
+        writer.write(literals[placeholders.length]);
+    }
+}
@@ -0,0 +1,475 @@
+package com.crudfy.services.templates;
+
+import com.crudfy.domains.resources.DomainType;
+import com.crudfy.domains.resources.Entity;
+import com.crudfy.domains.resources.Field;
+import com.crudfy.services.GenerationMetrics;
+import com.crudfy.services.builders.DomainFields;
+import com.crudfy.services.builders.GenerationContext;
+import com.crudfy.services.utils.EntityNames;
+import com.crudfy.services.utils.SourcePrinter;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.core.io.ResourceLoader;
+import org.springframework.stereotype.Service;
+import org.springframework.util.StreamUtils;
+
+import javax.annotation.PostConstruct;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.StringWriter;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Renders the classes of an entity from precompiled templates instead of building and printing an AST.
+ * The output is the same source the builders print, see {@code TemplateEngineEquivalenceTests}.
+ */
+@Service
+public class TemplateBuilder {
+
+    @Autowired
+    private ResourceLoader loader;
+
+    @Autowired
+    private SourcePrinter sourcePrinter;
+
+    @Autowired
+    private DomainFields domainFields;
+
+    @Autowired
+    private GenerationMetrics metrics;
+
+    private String lineSeparator;
+    private SourceTemplate controllerTemplate;
+    private SourceTemplate controllerExportTemplate;
+    private SourceTemplate controllerBatchTemplate;
+    private SourceTemplate reactiveControllerTemplate;
+    private SourceTemplate reactiveControllerExportTemplate;
+    private SourceTemplate serviceTemplate;
+    private SourceTemplate serviceKeysetTemplate;
+    private SourceTemplate serviceExportTemplate;
+    private SourceTemplate serviceBatchTemplate;
+    private SourceTemplate reactiveServiceTemplate;
+    private SourceTemplate reactiveServiceKeysetTemplate;
+    private SourceTemplate reactiveServiceExportTemplate;
+    private SourceTemplate reactiveServiceCreateTemplate;
+    private SourceTemplate mapperTemplate;
+    private SourceTemplate repositoryTemplate;
+    private SourceTemplate domainTemplate;
+    private SourceTemplate batchResultTemplate;
+
+    @PostConstruct
+    private void compileTemplates() throws IOException {
+        lineSeparator = sourcePrinter.getLineSeparator();
+        controllerTemplate = compile("controller");
+        controllerExportTemplate = compile("controller-export");
+        controllerBatchTemplate = compile("controller-batch");
+        reactiveControllerTemplate = compile("controller-reactive");
+        reactiveControllerExportTemplate = compile("controller-reactive-export");
+        serviceTemplate = compile("service");
+        serviceKeysetTemplate = compile("service-keyset");
+        serviceExportTemplate = compile("service-export");
+        serviceBatchTemplate = compile("service-batch");
+        reactiveServiceTemplate = compile("service-reactive");
+        reactiveServiceKeysetTemplate = compile("service-reactive-keyset");
+        reactiveServiceExportTemplate = compile("service-reactive-export");
+        reactiveServiceCreateTemplate = compile("service-reactive-create");
+        mapperTemplate = compile("mapper");
+        repositoryTemplate = compile("repository");
+        domainTemplate = compile("domain");
+        batchResultTemplate = compile("batch-result");
+    }
+
+    public void buildResponse(GenerationContext context, EntityNames names, List<Field> fields) {
+        Map<String, String> values = buildDomainValues(context, names, names.getResponseClassName(), fields, DomainType.RESPONSE,
+                new ImportList(names.getDomainPackage()), "");
+        write(context, domainTemplate, values, names.getDomainPath(), names.getResponseClassName(), "Erro na escrita da classe Response");
+    }
+
+    public void buildResource(GenerationContext context, EntityNames names, List<Field> fields) {
+        Map<String, String> values = buildDomainValues(context, names, names.getResourceClassName(), fields, DomainType.RESOURCE,
+                new ImportList(names.getDomainPackage()), "");
+        write(context, domainTemplate, values, names.getDomainPath(), names.getResourceClassName(), "Erro na escrita da classe Resource");
+    }
+
+    public void buildBatchResult(GenerationContext context, EntityNames names) {
+        Map<String, String> values = buildNameValues(names, names.getDomainPackage(), new ImportList(names.getDomainPackage()).add("lombok.Data"));
+        write(context, batchResultTemplate, values, names.getDomainPath(), names.getBatchResultClassName(), "Erro na escrita da classe BatchResult");
+    }
+
+    public void buildEntity(GenerationContext context, EntityNames names, List<Field> fields) {
+        ImportList imports = new ImportList(names.getDomainPackage());
+        String annotation;
+        switch (context.getDatabase()) {
+            case MONGODB:
+                imports.add("org.springframework.data.mongodb.core.mapping.Document");
+                annotation = String.format("@Document(value = \"%s\")", names.getEntityVariableName());
+                break;
+            case ELASTICSEARCH:
+                imports.add("org.springframework.data.elasticsearch.annotations.Document");
+                annotation = String.format("@Document(indexName = \"%s\")", names.getEntityVariableName());
+                break;
+            default:
+                if (context.isReactive()) {
+                    imports.add("org.springframework.data.relational.core.mapping.Table");
+                    annotation = String.format("@Table(value = \"%s\")", names.getEntityVariableName());
+                    break;
+                }
+                imports.add("javax.persistence.Entity");
+                annotation = "@Entity()";
+                break;
+        }
+        Map<String, String> values = buildDomainValues(context, names, names.getEntityClassName(), fields, DomainType.ENTITY,
+                imports, annotation + lineSeparator);
+        write(context, domainTemplate, values, names.getDomainPath(), names.getEntityClassName(), "Erro na escrita da classe Entity");
+    }
+
+    public void buildRepository(GenerationContext context, EntityNames names, Entity entity) {
+        ImportList imports = new ImportList(names.getRepositoryPackage())
+                .add(names.getEntityImportPath())
+                .add("org.springframework.stereotype.Repository");
+        String repositoryImport;
+        switch (context.getDatabase()) {
+            case MONGODB:
+                repositoryImport = context.isReactive() ? "org.springframework.data.mongodb.repository.ReactiveMongoRepository"
+                        : "org.springframework.data.mongodb.repository.MongoRepository";
+                break;
+            case ELASTICSEARCH:
+                repositoryImport = context.isReactive() ? "org.springframework.data.elasticsearch.repository.ReactiveElasticsearchRepository"
+                        : "org.springframework.data.elasticsearch.repository.ElasticsearchRepository";
+                break;
+            default:
+                if (context.isReactive()) {
+                    repositoryImport = "org.springframework.data.r2dbc.repository.R2dbcRepository";
+                } else {
+                    repositoryImport = entity.isBatch() ? "org.springframework.data.jpa.repository.JpaRepository"
+                            : "org.springframework.data.repository.PagingAndSortingRepository";
+                }
+                break;
+        }
+        imports.add(repositoryImport);
+        String pageQuery = "";
+        if (context.isReactive()) {
+            imports.add("reactor.core.publisher.Flux").add("org.springframework.data.domain.Pageable");
+            pageQuery = String.format("%s    Flux<%s> findAllBy(Pageable pageable);%s", lineSeparator, names.getEntityClassName(), lineSeparator);
+        }
+        Field cursor = domainFields.getCursorField(context, entity.getFields());
+        String cursorQuery = "";
+        if (cursor != null) {
+            imports.add(context.isReactive() ? "reactor.core.publisher.Flux" : "java.util.List").add("org.springframework.data.domain.Pageable");
+            cursorQuery = String.format("%s    %s<%s> %s(%s after, Pageable pageable);%s", lineSeparator, context.isReactive() ? "Flux" : "List",
+                    names.getEntityClassName(), domainFields.getCursorQuery(cursor), domainFields.getCursorType(context, cursor), lineSeparator);
+        }
+        Field id = domainFields.getIdField(entity.getFields());
+        imports.addAll(domainFields.getIdImports(context, id));
+        String streamQuery = "";
+        if (entity.isExport() && !context.isReactive()) {
+            imports.add("java.util.stream.Stream");
+            String fetchSize = "";
+            if (context.isJpa()) {
+                imports.add("org.springframework.data.jpa.repository.QueryHints").add("javax.persistence.QueryHint");
+                fetchSize = String.format("    @QueryHints(@QueryHint(name = \"org.hibernate.fetchSize\", value = \"\" + Integer.MIN_VALUE))%s", lineSeparator);
+            }
+            streamQuery = String.format("%s%s    Stream<%s> streamAllBy();%s", lineSeparator, fetchSize, names.getEntityClassName(), lineSeparator);
+        }
+        Map<String, String> values = buildNameValues(names, names.getRepositoryPackage(), imports);
+        values.put("repositoryType", repositoryImport.substring(repositoryImport.lastIndexOf('.') + 1));
+        values.put("idType", domainFields.getIdType(context, id));
+        values.put("pageQuery", pageQuery);
+        values.put("cursorQuery", cursorQuery);
+        values.put("streamQuery", streamQuery);
+        write(context, repositoryTemplate, values, names.getRepositoryPath(), names.getRepositoryClassName(), "Erro na escrita da interface Repository");
+    }
+
+    public void buildController(GenerationContext context, EntityNames names, Entity entity) {
+        ImportList imports = new ImportList(names.getControllerPackage());
+        if (context.isReactive()) {
+            imports.addAll(Arrays.asList(
+                    names.getResourceImportPath(),
+                    names.getResponseImportPath(),
+                    names.getServiceImportPath(),
+                    "org.springframework.beans.factory.annotation.Autowired",
+                    "org.springframework.web.bind.annotation.*",
+                    "org.springframework.http.ResponseEntity",
+                    "org.springframework.http.HttpStatus",
+                    "reactor.core.publisher.Flux",
+                    "reactor.core.publisher.Mono",
+                    "org.springframework.data.domain.Pageable",
+                    "org.springframework.data.web.PageableDefault"));
+        } else {
+            imports.addAll(Arrays.asList(
+                    names.getResourceImportPath(),
+                    names.getResponseImportPath(),
+                    names.getServiceImportPath(),
+                    "org.springframework.beans.factory.annotation.Autowired",
+                    "org.springframework.web.bind.annotation.*",
+                    "org.springframework.stereotype.Controller",
+                    "org.springframework.http.ResponseEntity",
+                    "org.springframework.http.HttpStatus",
+                    "java.util.Optional",
+                    "java.util.List",
+                    "org.springframework.data.domain.Pageable",
+                    "org.springframework.data.web.PageableDefault"));
+        }
+        Field cursor = domainFields.getCursorField(context, entity.getFields());
+        Field id = domainFields.getIdField(entity.getFields());
+        imports.addAll(domainFields.getIdImports(context, id));
+        String findAllCall = String.format("%s.findAll(pageable)", names.getServiceVariableName());
+        String findAllParameters;
+        if (cursor != null) {
+            findAllCall = String.format("after == null ? %s : %s.findAllAfter(after, pageable)", findAllCall, names.getServiceVariableName());
+            findAllParameters = String.format("@PageableDefault(size = %s, sort = \"%s\") Pageable pageable, @RequestParam(required = false) %s after",
+                    context.getDefaultPageSize(), cursor.getName(), domainFields.getCursorType(context, cursor));
+        } else {
+            findAllParameters = String.format("@PageableDefault(size = %s) Pageable pageable", context.getDefaultPageSize());
+        }
+        if (entity.isExport()) {
+            imports.add("org.springframework.http.MediaType");
+            if (!context.isReactive()) {
+                imports.add("org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody");
+            }
+        }
+        if (entity.isBatch()) {
+            imports.add(names.getBatchResultImportPath());
+        }
+        Map<String, String> values = buildNameValues(names, names.getControllerPackage(), imports);
+        values.put("idType", domainFields.getIdType(context, id));
+        values.put("findAllCall", findAllCall);
+        values.put("findAllParameters", findAllParameters);
+        values.put("createCall", context.isR2dbc() ? "create" : "save");
+        values.put("exportMethod", entity.isExport() ?
+                render(context.isReactive() ? reactiveControllerExportTemplate : controllerExportTemplate, values) : "");
+        values.put("batchMethods", entity.isBatch() ? render(controllerBatchTemplate, values) : "");
+        write(context, context.isReactive() ? reactiveControllerTemplate : controllerTemplate, values, names.getControllerPath(), names.getControllerClassName(), "Erro na escrita da classe Controller");
+    }
+
+    public void buildMapper(GenerationContext context, EntityNames names) {
+        ImportList imports = new ImportList(names.getServicePackage()).addAll(Arrays.asList(
+                names.getResponseImportPath(),
+                names.getResourceImportPath(),
+                names.getEntityImportPath(),
+                "java.util.List",
+                "org.mapstruct.Mapper"));
+        Map<String, String> values = buildNameValues(names, names.getServicePackage(), imports);
+        write(context, mapperTemplate, values, names.getServicePath(), names.getMapperClassName(), "Erro na escrita da interface Mapper");
+    }
+
+    public void buildService(GenerationContext context, EntityNames names, Entity entity) {
+        ImportList imports = new ImportList(names.getServicePackage()).addAll(Arrays.asList(
+                names.getEntityImportPath(),
+                names.getResourceImportPath(),
+                names.getResponseImportPath(),
+                names.getRepositoryImportPath(),
+                context.isReactive() ? "reactor.core.publisher.Flux" : "java.util.List",
+                context.isReactive() ? "reactor.core.publisher.Mono" : "java.util.Optional",
+                "org.springframework.stereotype.Service",
+                "org.springframework.beans.factory.annotation.Autowired",
+                "org.springframework.data.domain.Pageable",
+                "org.springframework.data.domain.PageRequest"));
+        Field cursor = domainFields.getCursorField(context, entity.getFields());
+        if (cursor != null) {
+            imports.add("org.springframework.data.domain.Sort");
+        }
+        Field id = domainFields.getIdField(entity.getFields());
+        imports.addAll(domainFields.getIdImports(context, id));
+        boolean jpa = context.isJpa();
+        if (entity.isExport() && !context.isReactive()) {
+            imports.addAll(Arrays.asList(
+                    "java.io.IOException",
+                    "java.io.OutputStream",
+                    "java.util.Iterator",
+                    "java.util.stream.Stream",
+                    "com.fasterxml.jackson.databind.ObjectMapper"));
+            if (jpa) {
+                imports.addAll(Arrays.asList(
+                        "javax.persistence.EntityManager",
+                        "javax.persistence.PersistenceContext",
+                        "org.springframework.transaction.annotation.Transactional"));
+            }
+        }
+        if (entity.isBatch()) {
+            imports.addAll(Arrays.asList(
+                    names.getBatchResultImportPath(),
+                    "java.util.ArrayList",
+                    "java.util.HashSet",
+                    "java.util.Objects",
+                    "java.util.Set",
+                    "java.util.stream.Collectors",
+                    "org.springframework.beans.DirectFieldAccessor"));
+        }
+        if (entity.getCache() != null) {
+            imports.addAll(Arrays.asList(
+                    "org.springframework.cache.annotation.Cacheable",
+                    "org.springframework.cache.annotation.CachePut",
+                    "org.springframework.cache.annotation.CacheEvict"));
+        }
+        if (context.isR2dbc()) {
+            imports.add("org.springframework.data.r2dbc.core.R2dbcEntityTemplate");
+        }
+        Map<String, String> values = buildNameValues(names, names.getServicePackage(), imports);
+        values.put("maxPageSize", String.valueOf(context.getMaxPageSize()));
+        values.put("idType", domainFields.getIdType(context, id));
+        putCacheAnnotations(values, names, entity, id);
+        String findAllAfterMethod = "";
+        if (cursor != null) {
+            values.put("cursorType", domainFields.getCursorType(context, cursor));
+            values.put("cursorName", cursor.getName());
+            values.put("cursorQuery", domainFields.getCursorQuery(cursor));
+            findAllAfterMethod = render(context.isReactive() ? reactiveServiceKeysetTemplate : serviceKeysetTemplate, values);
+        }
+        values.put("findAllAfterMethod", findAllAfterMethod);
+        String exportConstant = "";
+        String exportFields = "";
+        String exportMethod = "";
+        if (entity.isExport()) {
+            exportConstant = String.format("%s    private static final int EXPORT_CHUNK_SIZE = %s;%s", lineSeparator,
+                    context.getExportChunkSize(), lineSeparator);
+            if (context.isReactive()) {
+                exportMethod = render(reactiveServiceExportTemplate, values);
+            } else {
+                exportFields = String.format("%s    @Autowired()%s    private ObjectMapper objectMapper;%s", lineSeparator, lineSeparator, lineSeparator);
+                if (jpa) {
+                    exportFields += String.format("%s    @PersistenceContext()%s    private EntityManager entityManager;%s", lineSeparator,
+                            lineSeparator, lineSeparator);
+                }
+                values.put("exportAnnotations", jpa ? "    @Transactional(readOnly = true)" + lineSeparator : "");
+                values.put("detachStatement", jpa ?
+                        String.format("                entityManager.detach(%s);%s", names.getEntityVariableName(), lineSeparator) : "");
+                exportMethod = render(serviceExportTemplate, values);
+            }
+        }
+        values.put("exportConstant", exportConstant);
+        values.put("exportFields", exportFields);
+        values.put("exportMethod", exportMethod);
+        String batchConstant = "";
+        String batchMethods = "";
+        if (entity.isBatch()) {
+            batchConstant = String.format("%s    private static final int BATCH_SIZE = %s;%s", lineSeparator, context.getBatchSize(), lineSeparator);
+            values.put("deleteAllMethod", jpa ? "deleteAllByIdInBatch" : "deleteAllById");
+            values.put("idName", id.getName());
+            batchMethods = render(serviceBatchTemplate, values);
+        }
+        //R2DBC saves an entity with an id as an update, the new ones are inserted through the template
+        values.put("entityTemplateField", context.isR2dbc() ?
+                String.format("%s    @Autowired()%s    private R2dbcEntityTemplate entityTemplate;%s", lineSeparator, lineSeparator, lineSeparator) : "");
+        values.put("createMethod", context.isR2dbc() ? render(reactiveServiceCreateTemplate, values) : "");
+        values.put("batchConstant", batchConstant);
+        values.put("batchMethods", batchMethods);
+        write(context, context.isReactive() ? reactiveServiceTemplate : serviceTemplate, values, names.getServicePath(), names.getServiceClassName(), "Erro na escrita da classe Service");
+    }
+
+    /**
+     * Annotations of the service methods of a cached entity, empty when it is not cached.
+     */
+    private void putCacheAnnotations(Map<String, String> values, EntityNames names, Entity entity, Field id) {
+        String findAnnotations = "";
+        String saveAnnotations = "";
+        String deleteAnnotations = "";
+        String batchAnnotations = "";
+        if (entity.getCache() != null) {
+            String cacheName = names.getEntityVariableName();
+            findAnnotations = String.format("    @Cacheable(value = \"%s\")%s", cacheName, lineSeparator);
+            saveAnnotations = String.format("    @CachePut(value = \"%s\", key = \"#result.%s\")%s", cacheName, id.getName(), lineSeparator);
+            deleteAnnotations = String.format("    @CacheEvict(value = \"%s\")%s", cacheName, lineSeparator);
+            batchAnnotations = String.format("    @CacheEvict(value = \"%s\", allEntries = true)%s", cacheName, lineSeparator);
+        }
+        values.put("findAnnotations", findAnnotations);
+        values.put("saveAnnotations", saveAnnotations);
+        values.put("deleteAnnotations", deleteAnnotations);
+        values.put("batchAnnotations", batchAnnotations);
+    }
+
+    private Map<String, String> buildDomainValues(GenerationContext context, EntityNames names, String className, List<Field> fields,
+                                                  DomainType domainType, ImportList imports, String annotations) {
+        imports.addAll(Arrays.asList("lombok.Data", "lombok.AllArgsConstructor", "lombok.NoArgsConstructor"));
+
+        StringBuilder fieldDeclarations = new StringBuilder();
+        //Only the first id is annotated, as in the entity built by the DomainBuilder
+        String id = domainType == DomainType.ENTITY ?
+                fields.stream().filter(Field::isId).map(Field::getName).findFirst().orElse(null) : null;
+        for (Field field : fields) {
+            fieldDeclarations.append(lineSeparator);
+            if (field.getName().equals(id)) {
+                fieldDeclarations.append("    @Id()").append(lineSeparator);
+            }
+            fieldDeclarations.append("    private ").append(domainFields.getType(context, field, domainType))
+                    .append(' ').append(field.getName()).append(';').append(lineSeparator);
+            imports.addAll(domainFields.getImports(context, field, domainType));
+        }
+        if (id != null) {
+            imports.add(context.isJpa() ? "javax.persistence.Id" : "org.springframework.data.annotation.Id");
+        }
+
+        Map<String, String> values = new HashMap<>();
+        values.put("package", names.getDomainPackage());
+        values.put("imports", imports.render(lineSeparator));
+        values.put("annotations", annotations);
+        values.put("className", className);
+        values.put("fields", fieldDeclarations.toString());
+        return values;
+    }
+
+    private Map<String, String> buildNameValues(EntityNames names, String packageName, ImportList imports) {
+        Map<String, String> values = new HashMap<>();
+        values.put("package", packageName);
+        values.put("imports", imports.render(lineSeparator));
+        values.put("entityClass", names.getEntityClassName());
+        values.put("entityVariable", names.getEntityVariableName());
+        values.put("entityListVariable", names.getEntityListVariableName());
+        values.put("responseClass", names.getResponseClassName());
+        values.put("responseVariable", names.getResponseVariableName());
+        values.put("responseListVariable", names.getResponseListVariableName());
+        values.put("resourceClass", names.getResourceClassName());
+        values.put("resourceVariable", names.getResourceVariableName());
+        values.put("resourceListVariable", names.getResourceListVariableName());
+        values.put("batchResultClass", names.getBatchResultClassName());
+        values.put("repositoryClass", names.getRepositoryClassName());
+        values.put("repositoryVariable", names.getRepositoryVariableName());
+        values.put("serviceClass", names.getServiceClassName());
+        values.put("serviceVariable", names.getServiceVariableName());
+        values.put("mapperClass", names.getMapperClassName());
+        values.put("mapperVariable", names.getMapperVariableName());
+        values.put("controllerClass", names.getControllerClassName());
+        values.put("toEntityMethod", names.getToEntityMethod());
+        values.put("toResponseMethod", names.getToResponseMethod());
+        values.put("toResponseListMethod", names.getToResponseListMethod());
+        return values;
+    }
+
+    private void write(GenerationContext context, SourceTemplate template, Map<String, String> values, String path,
+                       String className, String errorMessage) {
+        try {
+            //File Writing, the write time includes the rendering
+            Timer.Sample write = metrics.start();
+            context.getSink().write(String.format("%s/%s.java", path, className), writer -> {
+                Timer.Sample render = metrics.start();
+                template.render(values, writer);
+                metrics.stopPhase(render, context.getMetricTags(), "render");
+            });
+            metrics.stopPhase(write, context.getMetricTags(), "write");
+        } catch (IOException e) {
+            throw new RuntimeException(errorMessage, e);
+        }
+    }
+
+    private String render(SourceTemplate template, Map<String, String> values) {
+        try {
+            StringWriter writer = new StringWriter();
+            template.render(values, writer);
+            return writer.toString();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private SourceTemplate compile(String name) throws IOException {
+        try (InputStream template = loader.getResource(String.format("classpath:templates/%s.java.tpl", name)).getInputStream()) {
+            return SourceTemplate.compile(name, StreamUtils.copyToString(template, StandardCharsets.UTF_8), lineSeparator);
+        }
+    }
+}
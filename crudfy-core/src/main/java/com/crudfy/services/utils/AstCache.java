@@ -0,0 +1,39 @@
+package com.crudfy.services.utils;
+
+import com.github.javaparser.ast.Node;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * Bounded LRU cache of parsed AST fragments. The cached nodes are never attached to a compilation unit,
+ * every caller gets its own clone.
+ */
+public class AstCache<T extends Node> {
+
+    private final Map<String, T> nodes;
+    private final Function<String, T> parser;
+
+    public AstCache(int maxSize, Function<String, T> parser) {
+        this.parser = parser;
+        this.nodes = Collections.synchronizedMap(new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, T> eldest) {
+                return size() > maxSize;
+            }
+        });
+    }
+
+    @SuppressWarnings("unchecked")
+    public T get(String source) {
+        T node = nodes.get(source);
+        if (node == null) {
+            //Parsed outside the lock, two threads may parse the same source but the result is the same
+            node = parser.apply(source);
+            nodes.put(source, node);
+        }
+        return (T) node.clone();
+    }
+}
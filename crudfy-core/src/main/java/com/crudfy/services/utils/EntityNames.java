@@ -0,0 +1,57 @@
+package com.crudfy.services.utils;
+
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * Every name derived from an entity, computed once per entity in a generation and shared by all the builders.
+ */
+@Getter
+@Builder
+public class EntityNames {
+
+    private final String entityName;
+
+    //Class names
+    private final String entityClassName;
+    private final String responseClassName;
+    private final String resourceClassName;
+    private final String controllerClassName;
+    private final String repositoryClassName;
+    private final String serviceClassName;
+    private final String mapperClassName;
+    private final String batchResultClassName;
+
+    //Variable and method names
+    private final String entityVariableName;
+    private final String entityListVariableName;
+    private final String responseVariableName;
+    private final String responseListVariableName;
+    private final String resourceVariableName;
+    private final String resourceListVariableName;
+    private final String repositoryVariableName;
+    private final String serviceVariableName;
+    private final String mapperVariableName;
+    private final String toEntityMethod;
+    private final String toResponseMethod;
+    private final String toResponseListMethod;
+
+    //Packages and imports
+    private final String domainPackage;
+    private final String repositoryPackage;
+    private final String servicePackage;
+    private final String controllerPackage;
+    private final String entityImportPath;
+    private final String responseImportPath;
+    private final String resourceImportPath;
+    private final String batchResultImportPath;
+    private final String repositoryImportPath;
+    private final String serviceImportPath;
+
+    //Directories
+    private final String entityRootPath;
+    private final String domainPath;
+    private final String repositoryPath;
+    private final String servicePath;
+    private final String controllerPath;
+}
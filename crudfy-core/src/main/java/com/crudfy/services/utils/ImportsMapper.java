@@ -0,0 +1,84 @@
+package com.crudfy.services.utils;
+
+import org.codehaus.plexus.util.StringUtils;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.core.io.ResourceLoader;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PostConstruct;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+@Component
+public class ImportsMapper {
+
+    private static final int MAX_CACHED_TYPES = 4096;
+
+    private static final Set<String> IMPLICIT_TYPES = Set.of(
+            "String", "Object", "Integer", "Long", "Short", "Byte", "Double", "Float", "Boolean", "Character",
+            "int", "long", "short", "byte", "double", "float", "boolean", "char");
+
+    @Autowired
+    private ResourceLoader loader;
+
+    private Map<String, String> imports = new HashMap<>();
+
+    private final Map<String, ResolvedType> resolvedTypes = new ConcurrentHashMap<>();
+
+    @PostConstruct
+    private void populate() throws IOException {
+        ObjectMapper mapper = new ObjectMapper();
+        InputStream importResource = loader.getResource("classpath:imports-mapping.json").getInputStream();
+        imports.putAll(mapper.readValue(importResource, Map.class));
+    }
+
+    public List<String> getImports(String fullType) {
+        return resolve(fullType).imports;
+    }
+
+    public TypeDescriptor getDescriptor(String fullType) {
+        return resolve(fullType).descriptor;
+    }
+
+    /**
+     * Whether the type comes from java.lang or the imports mapping, as opposed to an entity of the project.
+     */
+    public boolean isKnownType(String type) {
+        return IMPLICIT_TYPES.contains(type) || imports.containsKey(type);
+    }
+
+    private ResolvedType resolve(String fullType) {
+        ResolvedType resolved = resolvedTypes.get(fullType);
+        if (resolved == null) {
+            TypeDescriptor descriptor = TypeDescriptor.parse(fullType);
+            List<String> types = new ArrayList<>();
+            descriptor.getNames().forEach(type -> addImport(type, types));
+            resolved = new ResolvedType(descriptor, Collections.unmodifiableList(types));
+            //Specs only have a handful of distinct types, the limit only protects against unbounded input
+            if (resolvedTypes.size() < MAX_CACHED_TYPES) {
+                resolvedTypes.put(fullType, resolved);
+            }
+        }
+        return resolved;
+    }
+
+    private void addImport(String type, List<String> list) {
+        String typeImport = imports.get(type);
+        if (StringUtils.isNotBlank(typeImport)) {
+            list.add(typeImport);
+        }
+    }
+
+    private static class ResolvedType {
+        private final TypeDescriptor descriptor;
+        private final List<String> imports;
+
+        private ResolvedType(TypeDescriptor descriptor, List<String> imports) {
+            this.descriptor = descriptor;
+            this.imports = imports;
+        }
+    }
+}
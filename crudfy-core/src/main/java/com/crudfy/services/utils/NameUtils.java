@@ -41,6 +41,10 @@ public class NameUtils {
         return getBaseClassName(entityName) + "Mapper";
     }
 
+    public String getBatchResultClassName(String entityName) {
+        return getBaseClassName(entityName) + "BatchResult";
+    }
+
     public String getResourceVariableName(String entityName) {
         return entityName.toLowerCase() + "Resource";
     }
@@ -92,6 +96,10 @@ public class NameUtils {
         return  getDomainImportPath(projectName, entityName, projectStructure) + "." + getResourceClassName(entityName);
     }
 
+    public String getBatchResultImportPath(String projectName, String entityName, Structure projectStructure) {
+        return  getDomainImportPath(projectName, entityName, projectStructure) + "." + getBatchResultClassName(entityName);
+    }
+
     public String getEntityImportPath(String projectName, String entityName, Structure projectStructure) {
         return  getDomainImportPath(projectName, entityName, projectStructure) + "." + getBaseClassName(entityName);
     }
@@ -116,6 +124,53 @@ public class NameUtils {
         return  getBaseServiceImportPath(projectName, entityName, projectStructure) + "." + getServiceClassName(entityName);
     }
 
+    public EntityNames getEntityNames(String basePath, String projectName, String entityName, Structure projectStructure) {
+        String moduleEntityName = LAYER.equals(projectStructure) ? null : entityName;
+        String rootImportPath = getRootImportPath(projectName);
+        String lowerCaseName = entityName.toLowerCase();
+
+        return EntityNames.builder()
+                .entityName(entityName)
+                .entityClassName(getBaseClassName(entityName))
+                .responseClassName(getResponseClassName(entityName))
+                .resourceClassName(getResourceClassName(entityName))
+                .controllerClassName(getControllerClassName(entityName))
+                .repositoryClassName(getRepositoryClassName(entityName))
+                .serviceClassName(getServiceClassName(entityName))
+                .mapperClassName(getMapperClassName(entityName))
+                .batchResultClassName(getBatchResultClassName(entityName))
+                .entityVariableName(lowerCaseName)
+                .entityListVariableName(lowerCaseName + "List")
+                .responseVariableName(getResponseVariableName(entityName))
+                .responseListVariableName(getResponseVariableName(entityName) + "List")
+                .resourceVariableName(getResourceVariableName(entityName))
+                .resourceListVariableName(getResourceVariableName(entityName) + "List")
+                .repositoryVariableName(getRepositoryVariableName(entityName))
+                .serviceVariableName(getServiceVariableName(entityName))
+                .mapperVariableName(getMapperVariableName(entityName))
+                .toEntityMethod(toEntityMethod(entityName))
+                .toResponseMethod(toResponseMethod(entityName))
+                .toResponseListMethod(toResponseListMethod(entityName))
+                .domainPackage(getDomainImportPath(projectName, entityName, projectStructure))
+                .repositoryPackage(getRepositoryBaseImportPath(projectName, entityName, projectStructure))
+                .servicePackage(getBaseServiceImportPath(projectName, entityName, projectStructure))
+                .controllerPackage(LAYER.equals(projectStructure)
+                        ? rootImportPath + ".controllers"
+                        : String.format("%s.%s.controllers", rootImportPath, lowerCaseName))
+                .entityImportPath(getEntityImportPath(projectName, entityName, projectStructure))
+                .responseImportPath(getResponseImportPath(projectName, entityName, projectStructure))
+                .resourceImportPath(getResourceImportPath(projectName, entityName, projectStructure))
+                .batchResultImportPath(getBatchResultImportPath(projectName, entityName, projectStructure))
+                .repositoryImportPath(getRepositoryImportPath(projectName, entityName, projectStructure))
+                .serviceImportPath(getServiceImportPath(projectName, entityName, projectStructure))
+                .entityRootPath(getEntityRootPath(basePath, projectName, entityName))
+                .domainPath(getDomainPath(basePath, projectName, moduleEntityName))
+                .repositoryPath(getRepositoryPath(basePath, projectName, moduleEntityName))
+                .servicePath(getServicePath(basePath, projectName, moduleEntityName))
+                .controllerPath(getControllerPath(basePath, projectName, moduleEntityName))
+                .build();
+    }
+
     public String getMainRootPath(String basePath, String projectName) {
         return String.format("%s/src/main/java/com/%s", basePath, projectName.toLowerCase());
     }
@@ -0,0 +1,61 @@
+package com.crudfy.services.utils;
+
+import com.github.javaparser.ast.Node;
+import com.github.javaparser.printer.DefaultPrettyPrinter;
+import com.github.javaparser.printer.Printer;
+import com.github.javaparser.printer.configuration.DefaultConfigurationOption;
+import com.github.javaparser.printer.configuration.DefaultPrinterConfiguration;
+import com.github.javaparser.printer.configuration.DefaultPrinterConfiguration.ConfigOption;
+import com.github.javaparser.utils.LineSeparator;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PostConstruct;
+import java.io.IOException;
+import java.io.Writer;
+
+/**
+ * Prints the generated ASTs with a single configured printer, instead of building the default one on every toString().
+ */
+@Component
+public class SourcePrinter {
+
+    @Value("${crudfy.output.line-ending:SYSTEM}")
+    private String lineEnding;
+
+    private Printer printer;
+    private String lineSeparator;
+
+    @PostConstruct
+    private void createPrinter() {
+        lineSeparator = parseLineSeparator().asRawString();
+        DefaultPrinterConfiguration configuration = new DefaultPrinterConfiguration();
+        configuration.addOption(new DefaultConfigurationOption(ConfigOption.END_OF_LINE_CHARACTER, lineSeparator));
+        //The configuration is only read while printing, so the printer can be shared between generations
+        printer = new DefaultPrettyPrinter(configuration);
+    }
+
+    public void print(Node node, Writer writer) throws IOException {
+        writer.write(printer.print(node));
+    }
+
+    /**
+     * Line ending of the printed sources, for the sources that are not printed from an AST.
+     */
+    public String getLineSeparator() {
+        return lineSeparator;
+    }
+
+    private LineSeparator parseLineSeparator() {
+        switch (lineEnding.trim().toUpperCase()) {
+            case "LF":
+                return LineSeparator.LF;
+            case "CRLF":
+                return LineSeparator.CRLF;
+            case "SYSTEM":
+                return LineSeparator.SYSTEM;
+            default:
+                throw new IllegalArgumentException(String.format("Quebra de linha invalida '%s'. Use LF, CRLF ou SYSTEM", lineEnding));
+        }
+    }
+}
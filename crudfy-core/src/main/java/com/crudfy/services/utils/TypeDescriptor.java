@@ -0,0 +1,154 @@
+package com.crudfy.services.utils;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.function.UnaryOperator;
+
+/**
+ * Tree of a field type such as {@code Map<String, List<LocalDate>>}, built in a single pass over the type string.
+ */
+public class TypeDescriptor {
+
+    private final String name;
+    private final List<TypeDescriptor> arguments;
+    private final int arrayDimensions;
+    private final List<String> names;
+
+    private TypeDescriptor(String name, List<TypeDescriptor> arguments, int arrayDimensions) {
+        this.name = name;
+        this.arguments = arguments;
+        this.arrayDimensions = arrayDimensions;
+
+        Set<String> allNames = new LinkedHashSet<>();
+        allNames.add(name);
+        arguments.forEach(argument -> allNames.addAll(argument.names));
+        this.names = List.copyOf(allNames);
+    }
+
+    public static TypeDescriptor parse(String type) {
+        Tokenizer tokenizer = new Tokenizer(type);
+        TypeDescriptor descriptor = tokenizer.readType();
+        tokenizer.skipWhitespace();
+        if (tokenizer.position < type.length()) {
+            throw tokenizer.error();
+        }
+        return descriptor;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public List<TypeDescriptor> getArguments() {
+        return arguments;
+    }
+
+    public int getArrayDimensions() {
+        return arrayDimensions;
+    }
+
+    /**
+     * Every distinct type name of the tree, the outer type first.
+     */
+    public List<String> getNames() {
+        return names;
+    }
+
+    public String render(UnaryOperator<String> renamer) {
+        StringBuilder builder = new StringBuilder();
+        render(builder, renamer);
+        return builder.toString();
+    }
+
+    private void render(StringBuilder builder, UnaryOperator<String> renamer) {
+        builder.append(renamer.apply(name));
+        if (!arguments.isEmpty()) {
+            builder.append('<');
+            for (int i = 0; i < arguments.size(); i++) {
+                if (i > 0) {
+                    builder.append(", ");
+                }
+                arguments.get(i).render(builder, renamer);
+            }
+            builder.append('>');
+        }
+        for (int i = 0; i < arrayDimensions; i++) {
+            builder.append("[]");
+        }
+    }
+
+    @Override
+    public String toString() {
+        return render(UnaryOperator.identity());
+    }
+
+    private static class Tokenizer {
+
+        private final String type;
+        private int position;
+
+        private Tokenizer(String type) {
+            this.type = type;
+        }
+
+        private TypeDescriptor readType() {
+            skipWhitespace();
+            int start = position;
+            while (position < type.length() && isNameCharacter(type.charAt(position))) {
+                position++;
+            }
+            if (start == position) {
+                throw error();
+            }
+            String name = type.substring(start, position);
+
+            List<TypeDescriptor> arguments = Collections.emptyList();
+            skipWhitespace();
+            if (position < type.length() && type.charAt(position) == '<') {
+                arguments = new ArrayList<>(2);
+                do {
+                    position++;
+                    arguments.add(readType());
+                    skipWhitespace();
+                } while (position < type.length() && type.charAt(position) == ',');
+                expect('>');
+                arguments = Collections.unmodifiableList(arguments);
+            }
+
+            int arrayDimensions = 0;
+            skipWhitespace();
+            while (position < type.length() && type.charAt(position) == '[') {
+                position++;
+                skipWhitespace();
+                expect(']');
+                arrayDimensions++;
+                skipWhitespace();
+            }
+            return new TypeDescriptor(name, arguments, arrayDimensions);
+        }
+
+        private void expect(char expected) {
+            if (position >= type.length() || type.charAt(position) != expected) {
+                throw error();
+            }
+            position++;
+        }
+
+        private void skipWhitespace() {
+            while (position < type.length() && Character.isWhitespace(type.charAt(position))) {
+                position++;
+            }
+        }
+
+        private boolean isNameCharacter(char character) {
+            return Character.isJavaIdentifierPart(character) || character == '.';
+        }
+
+        private IllegalArgumentException error() {
+            return new IllegalArgumentException(String.format("Tipo invalido '%s' na posicao %s", type, position));
+        }
+    }
+}
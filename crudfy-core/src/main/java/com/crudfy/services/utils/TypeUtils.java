@@ -0,0 +1,44 @@
+package com.crudfy.services.utils;
+
+import com.github.javaparser.JavaParser;
+import com.github.javaparser.ast.type.ClassOrInterfaceType;
+import com.github.javaparser.ast.type.Type;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PostConstruct;
+
+@Component
+public class TypeUtils {
+
+    // JavaParser instances are not safe to share between concurrent generations
+    private final ThreadLocal<JavaParser> parser = ThreadLocal.withInitial(JavaParser::new);
+
+    @Value("${crudfy.generation.type-cache-size:2048}")
+    private int typeCacheSize;
+
+    private AstCache<Type> types;
+    private AstCache<ClassOrInterfaceType> classOrInterfaceTypes;
+
+    @PostConstruct
+    private void createCaches() {
+        types = new AstCache<>(typeCacheSize, type -> parser.get().parseType(type).getResult().get());
+        classOrInterfaceTypes = new AstCache<>(typeCacheSize, type -> parser.get().parseClassOrInterfaceType(type).getResult().get());
+    }
+
+    public Type getType(String type) {
+        return types.get(type);
+    }
+
+    public ClassOrInterfaceType getClassOrInterfaceType(String type) {
+        return classOrInterfaceTypes.get(type);
+    }
+
+    public ClassOrInterfaceType getStringType() {
+        return classOrInterfaceTypes.get("String");
+    }
+
+    public ClassOrInterfaceType getResponseEntityType(String type) {
+        return classOrInterfaceTypes.get(String.format("ResponseEntity<%s>", type));
+    }
+}
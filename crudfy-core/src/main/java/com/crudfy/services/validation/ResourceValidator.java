@@ -0,0 +1,230 @@
+package com.crudfy.services.validation;
+
+import com.crudfy.domains.exceptions.ResourceValidationException;
+import com.crudfy.domains.resources.ComponentResource;
+import com.crudfy.domains.resources.Database;
+import com.crudfy.domains.resources.Entity;
+import com.crudfy.domains.resources.EntityCache;
+import com.crudfy.domains.resources.Field;
+import com.crudfy.services.utils.ImportsMapper;
+import com.crudfy.services.utils.NameUtils;
+import com.crudfy.services.utils.TypeDescriptor;
+import com.crudfy.services.utils.TypeUtils;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import org.springframework.util.CollectionUtils;
+import org.springframework.util.StringUtils;
+
+import javax.lang.model.SourceVersion;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Checks the whole spec before anything is written, every problem found is reported at once.
+ * Entities are read a single time: their names are indexed as they come, and the sub-entity references are
+ * resolved against the index at the end, so an entity may be referenced before it is declared.
+ */
+@Component
+public class ResourceValidator {
+
+    @Autowired
+    private NameUtils nameUtils;
+
+    @Autowired
+    private ImportsMapper mapper;
+
+    @Autowired
+    private TypeUtils typeUtils;
+
+    public void validate(ComponentResource resource) {
+        List<String> errors = new ArrayList<>();
+        validateProject(resource, errors);
+
+        if (CollectionUtils.isEmpty(resource.getEntities())) {
+            //TODO Translate to english
+            errors.add("É necessário ao menos uma entidade para construir o projeto");
+        } else {
+            //Class name of each entity, two entities with the same class would overwrite each other files
+            Map<String, String> entities = new HashMap<>();
+            List<SubEntityReference> references = new ArrayList<>();
+            for (Entity entity : resource.getEntities()) {
+                if (isValidName(entity.getName())) {
+                    String previous = entities.putIfAbsent(nameUtils.getBaseClassName(entity.getName()), entity.getName());
+                    if (previous != null) {
+                        errors.add(String.format("As entidades '%s' e '%s' geram a mesma classe", previous, entity.getName()));
+                    }
+                }
+                validateEntity(entity, resource, errors, references);
+            }
+            for (SubEntityReference reference : references) {
+                if (!entities.containsKey(nameUtils.getBaseClassName(reference.type))) {
+                    errors.add(String.format("Entidade '%s', campo '%s': a sub entidade '%s' não foi definida",
+                            reference.entity, reference.field, reference.type));
+                }
+            }
+        }
+
+        if (!errors.isEmpty()) {
+            throw new ResourceValidationException(errors);
+        }
+    }
+
+    /**
+     * Checks a single entity, when the spec is not known as a whole. Sub-entity references are not resolved.
+     */
+    public void validate(Entity entity, ComponentResource project) {
+        List<String> errors = new ArrayList<>();
+        validateEntity(entity, project, errors, new ArrayList<>());
+        if (!errors.isEmpty()) {
+            throw new ResourceValidationException(errors);
+        }
+    }
+
+    /**
+     * Checks the project fields only, before its entities are known.
+     */
+    public void validateProject(ComponentResource resource) {
+        List<String> errors = new ArrayList<>();
+        validateProject(resource, errors);
+        if (!errors.isEmpty()) {
+            throw new ResourceValidationException(errors);
+        }
+    }
+
+    private void validateProject(ComponentResource resource, List<String> errors) {
+        if (!isValidName(resource.getProjectName())) {
+            errors.add(String.format("O nome do projeto '%s' não é um identificador Java válido", resource.getProjectName()));
+        }
+        if (resource.getProjectStructure() == null) {
+            errors.add("A estrutura do projeto deve ser LAYER ou DOMAIN");
+        }
+        if (resource.getDatabase() == null) {
+            errors.add("O banco de dados deve ser MYSQL, MONGODB ou ELASTICSEARCH");
+        }
+        if (resource.getEngine() == null) {
+            errors.add("O motor de geração deve ser AST ou TEMPLATE");
+        }
+        if (resource.getDefaultPageSize() < 1 || resource.getDefaultPageSize() > resource.getMaxPageSize()) {
+            errors.add(String.format("O tamanho de página padrão %s deve estar entre 1 e o tamanho máximo %s",
+                    resource.getDefaultPageSize(), resource.getMaxPageSize()));
+        }
+        if (resource.getExportChunkSize() < 1) {
+            errors.add(String.format("O tamanho do bloco de exportação %s deve ser maior que zero", resource.getExportChunkSize()));
+        }
+        if (resource.getBatchSize() < 1) {
+            errors.add(String.format("O tamanho do lote %s deve ser maior que zero", resource.getBatchSize()));
+        }
+    }
+
+    private void validateEntity(Entity entity, ComponentResource project, List<String> errors, List<SubEntityReference> references) {
+        String entityName = entity.getName();
+        boolean reactive = project.isReactive();
+        boolean r2dbc = reactive && Database.MYSQL.equals(project.getDatabase());
+        if (!isValidName(entityName)) {
+            errors.add(String.format("O nome da entidade '%s' não é um identificador Java válido", entityName));
+        }
+        if (entity.getFields() == null) {
+            errors.add(String.format("Entidade '%s': a lista de campos é obrigatória", entityName));
+            return;
+        }
+
+        Set<String> fieldNames = new HashSet<>();
+        int ids = 0;
+        for (Field field : entity.getFields()) {
+            if (!isValidName(field.getName())) {
+                errors.add(String.format("Entidade '%s': o nome do campo '%s' não é um identificador Java válido", entityName, field.getName()));
+            } else if (!fieldNames.add(field.getName())) {
+                errors.add(String.format("Entidade '%s': o campo '%s' está repetido", entityName, field.getName()));
+            }
+            if (field.isId()) {
+                ids++;
+            }
+            validateType(entityName, field, r2dbc, errors, references);
+        }
+        if (ids > 1) {
+            errors.add(String.format("Entidade '%s': não é possível criar entidades com chaves primárias compostas", entityName));
+        }
+        if (entity.isBatch() && reactive) {
+            errors.add(String.format("Entidade '%s': os endpoints batch não são gerados em projetos reativos", entityName));
+        }
+        //The batch updates and deletes look the entities up by id
+        if (entity.isBatch() && entity.getFields().stream().noneMatch(field -> field.isId() && !field.isSubEntity())) {
+            errors.add(String.format("Entidade '%s': os endpoints batch precisam de um campo id", entityName));
+        }
+        if (entity.getCache() != null) {
+            validateCache(entity, reactive, errors);
+        }
+    }
+
+    private void validateCache(Entity entity, boolean reactive, List<String> errors) {
+        EntityCache cache = entity.getCache();
+        if (reactive) {
+            //Spring's cache annotations would cache the Mono itself, not its value
+            errors.add(String.format("Entidade '%s': o cache não é gerado em projetos reativos", entity.getName()));
+        }
+        //The saved entities are put in the cache by their id
+        if (entity.getFields().stream().noneMatch(field -> field.isId() && !field.isSubEntity())) {
+            errors.add(String.format("Entidade '%s': o cache precisa de um campo id", entity.getName()));
+        }
+        if (cache.getMaximumSize() < 1) {
+            errors.add(String.format("Entidade '%s': o tamanho máximo do cache %s deve ser maior que zero", entity.getName(), cache.getMaximumSize()));
+        }
+        if (cache.getTtlSeconds() < 1) {
+            errors.add(String.format("Entidade '%s': o tempo de expiração do cache %s deve ser maior que zero", entity.getName(), cache.getTtlSeconds()));
+        }
+    }
+
+    private void validateType(String entityName, Field field, boolean r2dbc, List<String> errors, List<SubEntityReference> references) {
+        if (!StringUtils.hasText(field.getType())) {
+            errors.add(String.format("Entidade '%s', campo '%s': o tipo é obrigatório", entityName, field.getName()));
+            return;
+        }
+        TypeDescriptor descriptor;
+        try {
+            descriptor = mapper.getDescriptor(field.getType());
+            typeUtils.getType(field.getType());
+        } catch (RuntimeException e) {
+            errors.add(String.format("Entidade '%s', campo '%s': tipo inválido '%s'", entityName, field.getName(), field.getType()));
+            return;
+        }
+        if (r2dbc && !isR2dbcType(field, descriptor)) {
+            errors.add(String.format("Entidade '%s', campo '%s': o tipo '%s' não é mapeado pelo R2DBC", entityName, field.getName(), field.getType()));
+        }
+        if (field.isSubEntity()) {
+            descriptor.getNames().stream()
+                    .filter(type -> !mapper.isKnownType(type))
+                    .forEach(type -> references.add(new SubEntityReference(entityName, field.getName(), type)));
+        }
+    }
+
+    /**
+     * R2DBC maps each field to a single column, it has no relations nor collections. Only byte arrays are read as blobs.
+     */
+    private boolean isR2dbcType(Field field, TypeDescriptor descriptor) {
+        if (field.isSubEntity() || !descriptor.getArguments().isEmpty()) {
+            return false;
+        }
+        return descriptor.getArrayDimensions() == 0 || descriptor.getArrayDimensions() == 1 && "byte".equals(descriptor.getName());
+    }
+
+    private boolean isValidName(String name) {
+        return name != null && SourceVersion.isIdentifier(name) && !SourceVersion.isKeyword(name);
+    }
+
+    private static class SubEntityReference {
+
+        private final String entity;
+        private final String field;
+        private final String type;
+
+        private SubEntityReference(String entity, String field, String type) {
+            this.entity = entity;
+            this.field = field;
+            this.type = type;
+        }
+    }
+}
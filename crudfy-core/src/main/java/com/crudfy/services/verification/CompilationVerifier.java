@@ -0,0 +1,187 @@
+package com.crudfy.services.verification;
+
+import com.crudfy.domains.responses.CompilationDiagnostic;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.support.PathMatchingResourcePatternResolver;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StreamUtils;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import javax.tools.Diagnostic;
+import javax.tools.DiagnosticCollector;
+import javax.tools.JavaCompiler;
+import javax.tools.JavaFileObject;
+import javax.tools.StandardJavaFileManager;
+import javax.tools.ToolProvider;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Compiles the generated sources in memory with the JDK compiler. The libraries of the generated project are replaced
+ * by the stubs in {@code verification/stubs}, so the verification does not depend on the generator's class path.
+ * Sources are compiled in parallel batches, every batch sees the whole project on its source path.
+ */
+@Component
+public class CompilationVerifier {
+
+    private static final String SOURCE_ROOT = "src/main/java/";
+    private static final String STUBS = "verification/stubs/";
+    private static final List<String> OPTIONS = List.of("-proc:none", "-implicit:none", "-Xlint:none", "-g:none");
+
+    @Value("${crudfy.verification.batch-size:200}")
+    private int batchSize;
+
+    @Value("${crudfy.verification.threads:0}")
+    private int threads;
+
+    private ExecutorService executor;
+
+    //Compiled on the first verification, most runs never verify
+    private volatile Map<String, byte[]> stubClasses;
+
+    @PostConstruct
+    private void createExecutor() {
+        AtomicInteger threadCount = new AtomicInteger();
+        executor = Executors.newFixedThreadPool(threads > 0 ? threads : Runtime.getRuntime().availableProcessors(), runnable -> {
+            Thread thread = new Thread(runnable, "crudfy-verify-" + threadCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    @PreDestroy
+    private void shutdownExecutor() {
+        executor.shutdown();
+    }
+
+    /**
+     * Compilation errors of the Java files among the given files, keyed by their path in the project.
+     * An empty list means the project compiles.
+     */
+    public List<CompilationDiagnostic> verify(Map<String, String> files) {
+        JavaCompiler compiler = getCompiler();
+        Map<String, byte[]> classes = getStubClasses(compiler);
+
+        Map<String, JavaFileObject> sources = new HashMap<>();
+        Map<JavaFileObject, String> paths = new IdentityHashMap<>();
+        files.forEach((path, content) -> {
+            String normalized = path.replace('\\', '/');
+            int sourceRoot = normalized.indexOf(SOURCE_ROOT);
+            if (sourceRoot >= 0 && normalized.endsWith(".java")) {
+                String binaryName = normalized.substring(sourceRoot + SOURCE_ROOT.length(), normalized.length() - ".java".length())
+                        .replace('/', '.');
+                JavaFileObject source = MemoryFileManager.source(binaryName, content);
+                sources.put(binaryName, source);
+                paths.put(source, path);
+            }
+        });
+
+        List<JavaFileObject> units = new ArrayList<>(sources.values());
+        List<Future<List<CompilationDiagnostic>>> batches = new ArrayList<>();
+        for (int start = 0; start < units.size(); start += batchSize) {
+            List<JavaFileObject> batch = units.subList(start, Math.min(start + batchSize, units.size()));
+            batches.add(executor.submit(() -> compile(compiler, classes, sources, batch, paths)));
+        }
+
+        List<CompilationDiagnostic> diagnostics = new ArrayList<>();
+        try {
+            for (Future<List<CompilationDiagnostic>> batch : batches) {
+                diagnostics.addAll(batch.get());
+            }
+        } catch (InterruptedException e) {
+            batches.forEach(batch -> batch.cancel(true));
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("Verificação da compilação interrompida", e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Erro na verificação da compilação", e.getCause());
+        }
+        diagnostics.sort(Comparator.comparing(CompilationDiagnostic::getFile, Comparator.nullsFirst(Comparator.naturalOrder()))
+                .thenComparingLong(CompilationDiagnostic::getLine)
+                .thenComparingLong(CompilationDiagnostic::getColumn));
+        return diagnostics;
+    }
+
+    private List<CompilationDiagnostic> compile(JavaCompiler compiler, Map<String, byte[]> classes, Map<String, JavaFileObject> sources,
+                                                List<JavaFileObject> batch, Map<JavaFileObject, String> paths) throws IOException {
+        DiagnosticCollector<JavaFileObject> collector = new DiagnosticCollector<>();
+        //The standard file manager is not thread safe, every batch has its own
+        try (StandardJavaFileManager standard = compiler.getStandardFileManager(null, Locale.ROOT, StandardCharsets.UTF_8);
+             MemoryFileManager fileManager = new MemoryFileManager(standard, classes, sources, null)) {
+            compiler.getTask(null, fileManager, collector, OPTIONS, null, batch).call();
+        }
+
+        List<CompilationDiagnostic> diagnostics = new ArrayList<>();
+        for (Diagnostic<? extends JavaFileObject> diagnostic : collector.getDiagnostics()) {
+            //Sources of other batches are also read from the source path, their errors are reported by their own batch
+            boolean ownSource = diagnostic.getSource() == null || batch.contains(diagnostic.getSource());
+            if (diagnostic.getKind() == Diagnostic.Kind.ERROR && ownSource) {
+                diagnostics.add(new CompilationDiagnostic(paths.get(diagnostic.getSource()), diagnostic.getLineNumber(),
+                        diagnostic.getColumnNumber(), diagnostic.getMessage(Locale.ROOT)));
+            }
+        }
+        return diagnostics;
+    }
+
+    private JavaCompiler getCompiler() {
+        JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+        if (compiler == null) {
+            throw new IllegalStateException("Compilador Java indisponível, a verificação exige um JDK e não um JRE");
+        }
+        return compiler;
+    }
+
+    private Map<String, byte[]> getStubClasses(JavaCompiler compiler) {
+        if (stubClasses == null) {
+            synchronized (this) {
+                if (stubClasses == null) {
+                    stubClasses = compileStubs(compiler);
+                }
+            }
+        }
+        return stubClasses;
+    }
+
+    private Map<String, byte[]> compileStubs(JavaCompiler compiler) {
+        try {
+            List<JavaFileObject> stubs = new ArrayList<>();
+            for (Resource resource : new PathMatchingResourcePatternResolver().getResources("classpath:" + STUBS + "**/*.java")) {
+                String url = resource.getURL().toString();
+                String binaryName = url.substring(url.lastIndexOf(STUBS) + STUBS.length(), url.length() - ".java".length())
+                        .replace('/', '.');
+                try (InputStream content = resource.getInputStream()) {
+                    stubs.add(MemoryFileManager.source(binaryName, StreamUtils.copyToString(content, StandardCharsets.UTF_8)));
+                }
+            }
+
+            Map<String, byte[]> classes = new ConcurrentHashMap<>();
+            DiagnosticCollector<JavaFileObject> collector = new DiagnosticCollector<>();
+            boolean compiled;
+            try (StandardJavaFileManager standard = compiler.getStandardFileManager(null, Locale.ROOT, StandardCharsets.UTF_8);
+                 MemoryFileManager fileManager = new MemoryFileManager(standard, Map.of(), Map.of(), classes)) {
+                compiled = compiler.getTask(null, fileManager, collector, List.of("-proc:none"), null, stubs).call();
+            }
+            if (!compiled) {
+                throw new IllegalStateException("Erro na compilação dos stubs de verificação: " + collector.getDiagnostics());
+            }
+            return Map.copyOf(classes);
+        } catch (IOException e) {
+            throw new IllegalStateException("Erro na leitura dos stubs de verificação", e);
+        }
+    }
+}
@@ -0,0 +1,141 @@
+package com.crudfy.services.verification;
+
+import javax.tools.FileObject;
+import javax.tools.ForwardingJavaFileManager;
+import javax.tools.JavaFileObject;
+import javax.tools.JavaFileObject.Kind;
+import javax.tools.SimpleJavaFileObject;
+import javax.tools.StandardJavaFileManager;
+import javax.tools.StandardLocation;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * File manager that never touches the disk. The class path only has the given classes and the source path only the
+ * given sources, the JDK classes still come from the platform. Compiled classes are kept in the output map, or
+ * dropped when there is none.
+ */
+class MemoryFileManager extends ForwardingJavaFileManager<StandardJavaFileManager> {
+
+    private final Map<String, byte[]> classes;
+    private final Map<String, JavaFileObject> sources;
+    private final Map<String, byte[]> output;
+
+    MemoryFileManager(StandardJavaFileManager fileManager, Map<String, byte[]> classes,
+                      Map<String, JavaFileObject> sources, Map<String, byte[]> output) {
+        super(fileManager);
+        this.classes = classes;
+        this.sources = sources;
+        this.output = output;
+    }
+
+    static JavaFileObject source(String binaryName, String content) {
+        return new MemoryFile(binaryName, Kind.SOURCE) {
+            @Override
+            public CharSequence getCharContent(boolean ignoreEncodingErrors) {
+                return content;
+            }
+        };
+    }
+
+    @Override
+    public boolean hasLocation(Location location) {
+        return location == StandardLocation.CLASS_PATH || location == StandardLocation.SOURCE_PATH || super.hasLocation(location);
+    }
+
+    @Override
+    public Iterable<JavaFileObject> list(Location location, String packageName, Set<Kind> kinds, boolean recurse) throws IOException {
+        if (location == StandardLocation.CLASS_PATH) {
+            if (!kinds.contains(Kind.CLASS)) {
+                return Collections.emptyList();
+            }
+            List<JavaFileObject> files = new ArrayList<>();
+            classes.forEach((binaryName, bytes) -> {
+                if (isInPackage(binaryName, packageName, recurse)) {
+                    files.add(classFile(binaryName, bytes));
+                }
+            });
+            return files;
+        }
+        if (location == StandardLocation.SOURCE_PATH) {
+            if (!kinds.contains(Kind.SOURCE)) {
+                return Collections.emptyList();
+            }
+            List<JavaFileObject> files = new ArrayList<>();
+            sources.forEach((binaryName, source) -> {
+                if (isInPackage(binaryName, packageName, recurse)) {
+                    files.add(source);
+                }
+            });
+            return files;
+        }
+        return super.list(location, packageName, kinds, recurse);
+    }
+
+    @Override
+    public String inferBinaryName(Location location, JavaFileObject file) {
+        if (file instanceof MemoryFile) {
+            return ((MemoryFile) file).binaryName;
+        }
+        return super.inferBinaryName(location, file);
+    }
+
+    @Override
+    public boolean isSameFile(FileObject a, FileObject b) {
+        if (a instanceof MemoryFile || b instanceof MemoryFile) {
+            return a == b;
+        }
+        return super.isSameFile(a, b);
+    }
+
+    @Override
+    public JavaFileObject getJavaFileForOutput(Location location, String className, Kind kind, FileObject sibling) {
+        return new MemoryFile(className, kind) {
+            @Override
+            public OutputStream openOutputStream() {
+                return new ByteArrayOutputStream() {
+                    @Override
+                    public void close() {
+                        if (output != null) {
+                            output.put(className, toByteArray());
+                        }
+                    }
+                };
+            }
+        };
+    }
+
+    private static JavaFileObject classFile(String binaryName, byte[] bytes) {
+        return new MemoryFile(binaryName, Kind.CLASS) {
+            @Override
+            public InputStream openInputStream() {
+                return new ByteArrayInputStream(bytes);
+            }
+        };
+    }
+
+    private static boolean isInPackage(String binaryName, String packageName, boolean recurse) {
+        int lastDot = binaryName.lastIndexOf('.');
+        String classPackage = lastDot < 0 ? "" : binaryName.substring(0, lastDot);
+        return classPackage.equals(packageName) || (recurse && classPackage.startsWith(packageName + "."));
+    }
+
+    private static class MemoryFile extends SimpleJavaFileObject {
+
+        private final String binaryName;
+
+        private MemoryFile(String binaryName, Kind kind) {
+            super(URI.create(String.format("memory:///%s%s", binaryName.replace('.', '/'), kind.extension)), kind);
+            this.binaryName = binaryName;
+        }
+    }
+}
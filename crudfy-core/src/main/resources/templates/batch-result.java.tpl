@@ -0,0 +1,17 @@
+package ${package};
+
+${imports}@Data()
+public class ${batchResultClass} {
+
+    private int index;
+
+    private int status;
+
+    private String error;
+
+    public ${batchResultClass}(int index, int status, String error) {
+        this.index = index;
+        this.status = status;
+        this.error = error;
+    }
+}
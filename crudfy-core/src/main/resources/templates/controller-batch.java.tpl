@@ -0,0 +1,15 @@
+
+    @PostMapping("/batch")
+    public ResponseEntity<List<${batchResultClass}>> createAll(@RequestBody() List<${resourceClass}> ${resourceListVariable}) {
+        return new ResponseEntity<>(${serviceVariable}.saveAll(${resourceListVariable}, HttpStatus.CREATED.value()), HttpStatus.OK);
+    }
+
+    @PutMapping("/batch")
+    public ResponseEntity<List<${batchResultClass}>> updateAll(@RequestBody() List<${resourceClass}> ${resourceListVariable}) {
+        return new ResponseEntity<>(${serviceVariable}.updateAll(${resourceListVariable}), HttpStatus.OK);
+    }
+
+    @DeleteMapping("/batch")
+    public ResponseEntity<List<${batchResultClass}>> deleteAll(@RequestBody() List<${idType}> ids) {
+        return new ResponseEntity<>(${serviceVariable}.deleteAll(ids), HttpStatus.OK);
+    }
@@ -0,0 +1,5 @@
+
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> export() {
+        return ResponseEntity.ok().contentType(MediaType.APPLICATION_NDJSON).body(${serviceVariable}::export);
+    }
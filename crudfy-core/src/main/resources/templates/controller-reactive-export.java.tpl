@@ -0,0 +1,5 @@
+
+    @GetMapping(value = "/export", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public Flux<${responseClass}> export() {
+        return ${serviceVariable}.export();
+    }
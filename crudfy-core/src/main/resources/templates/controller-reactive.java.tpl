@@ -0,0 +1,34 @@
+package ${package};
+
+${imports}@RestController()
+@RequestMapping("/${entityVariable}")
+public class ${controllerClass} {
+
+    @Autowired()
+    private ${serviceClass} ${serviceVariable};
+
+    @GetMapping("/{id}")
+    public Mono<ResponseEntity<${responseClass}>> find(@PathVariable() ${idType} id) {
+        return ${serviceVariable}.find(id).map(ResponseEntity::ok).defaultIfEmpty(new ResponseEntity<>(HttpStatus.NOT_FOUND));
+    }
+
+    @GetMapping()
+    public Flux<${responseClass}> findAll(${findAllParameters}) {
+        return ${findAllCall};
+    }
+${exportMethod}
+    @PostMapping()
+    public Mono<ResponseEntity<${responseClass}>> create(@RequestBody() ${resourceClass} ${resourceVariable}) {
+        return ${serviceVariable}.${createCall}(${resourceVariable}).map(${responseVariable} -> new ResponseEntity<>(${responseVariable}, HttpStatus.CREATED));
+    }
+
+    @PutMapping("/{id}")
+    public Mono<ResponseEntity<${responseClass}>> update(@PathVariable() ${idType} id, @RequestBody() ${resourceClass} ${resourceVariable}) {
+        return ${serviceVariable}.find(id).flatMap(found -> ${serviceVariable}.save(${resourceVariable})).map(ResponseEntity::ok).defaultIfEmpty(new ResponseEntity<>(HttpStatus.NOT_FOUND));
+    }
+
+    @DeleteMapping("/{id}")
+    public Mono<ResponseEntity<Void>> delete(@PathVariable() ${idType} id) {
+        return ${serviceVariable}.delete(id).then(Mono.just(new ResponseEntity<>(HttpStatus.NO_CONTENT)));
+    }
+}
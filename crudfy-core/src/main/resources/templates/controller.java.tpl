@@ -0,0 +1,46 @@
+package ${package};
+
+${imports}@Controller()
+@RequestMapping("/${entityVariable}")
+public class ${controllerClass} {
+
+    @Autowired()
+    private ${serviceClass} ${serviceVariable};
+
+    @GetMapping("/{id}")
+    public ResponseEntity<${responseClass}> find(@PathVariable() ${idType} id) {
+        Optional<${responseClass}> ${responseVariable} = ${serviceVariable}.find(id);
+        if (${responseVariable}.isPresent())
+            return new ResponseEntity<>(${responseVariable}.get(), HttpStatus.OK);
+        else
+            return new ResponseEntity<>(HttpStatus.NOT_FOUND);
+    }
+
+    @GetMapping()
+    public ResponseEntity<List<${responseClass}>> findAll(${findAllParameters}) {
+        List<${responseClass}> ${responseListVariable} = ${findAllCall};
+        if (${responseListVariable}.isEmpty())
+            return new ResponseEntity<>(HttpStatus.NO_CONTENT);
+        else
+            return new ResponseEntity<>(${responseListVariable}, HttpStatus.OK);
+    }
+${exportMethod}
+    @PostMapping()
+    public ResponseEntity create(@RequestBody() ${resourceClass} ${resourceVariable}) {
+        return new ResponseEntity<>(${serviceVariable}.save(${resourceVariable}), HttpStatus.CREATED);
+    }
+
+    @PutMapping("/{id}")
+    public ResponseEntity update(@PathVariable() ${idType} id, @RequestBody() ${resourceClass} ${resourceVariable}) {
+        if (${serviceVariable}.find(id).isPresent())
+            return new ResponseEntity<>(${serviceVariable}.save(${resourceVariable}), HttpStatus.OK);
+        else
+            return new ResponseEntity<>(HttpStatus.NOT_FOUND);
+    }
+
+    @DeleteMapping("/{id}")
+    public ResponseEntity delete(@PathVariable() ${idType} id) {
+        ${serviceVariable}.delete(id);
+        return new ResponseEntity<>(HttpStatus.NO_CONTENT);
+    }
+${batchMethods}}
@@ -0,0 +1,7 @@
+package ${package};
+
+${imports}${annotations}@Data()
+@AllArgsConstructor()
+@NoArgsConstructor()
+public class ${className} {
+${fields}}
@@ -0,0 +1,11 @@
+package ${package};
+
+${imports}@Mapper(componentModel = "spring")
+public interface ${mapperClass} {
+
+    ${entityClass} ${toEntityMethod}(${resourceClass} ${resourceVariable});
+
+    ${responseClass} ${toResponseMethod}(${entityClass} ${entityVariable});
+
+    List<${responseClass}> ${toResponseListMethod}(List<${entityClass}> ${entityListVariable});
+}
@@ -0,0 +1,5 @@
+package ${package};
+
+${imports}@Repository()
+public interface ${repositoryClass} extends ${repositoryType}<${entityClass}, ${idType}> {
+${pageQuery}${cursorQuery}${streamQuery}}
@@ -0,0 +1,87 @@
+
+${batchAnnotations}    public List<${batchResultClass}> saveAll(List<${resourceClass}> ${resourceListVariable}, int status) {
+        List<${batchResultClass}> results = new ArrayList<>();
+        for (int from = 0; from < ${resourceListVariable}.size(); from += BATCH_SIZE) {
+            List<${resourceClass}> chunk = ${resourceListVariable}.subList(from, Math.min(from + BATCH_SIZE, ${resourceListVariable}.size()));
+            try {
+                ${repositoryVariable}.saveAll(chunk.stream().map(${mapperVariable}::${toEntityMethod}).collect(Collectors.toList()));
+                for (int i = 0; i < chunk.size(); i++) {
+                    results.add(new ${batchResultClass}(from + i, status, null));
+                }
+            } catch (RuntimeException e) {
+                for (int i = 0; i < chunk.size(); i++) {
+                    results.add(saveOne(from + i, chunk.get(i), status));
+                }
+            }
+        }
+        return results;
+    }
+
+    private ${batchResultClass} saveOne(int index, ${resourceClass} ${resourceVariable}, int status) {
+        try {
+            ${repositoryVariable}.save(${mapperVariable}.${toEntityMethod}(${resourceVariable}));
+            return new ${batchResultClass}(index, status, null);
+        } catch (RuntimeException e) {
+            return new ${batchResultClass}(index, 400, e.getMessage());
+        }
+    }
+
+${batchAnnotations}    public List<${batchResultClass}> updateAll(List<${resourceClass}> ${resourceListVariable}) {
+        List<${batchResultClass}> results = new ArrayList<>();
+        for (int from = 0; from < ${resourceListVariable}.size(); from += BATCH_SIZE) {
+            List<${resourceClass}> chunk = ${resourceListVariable}.subList(from, Math.min(from + BATCH_SIZE, ${resourceListVariable}.size()));
+            List<${idType}> ids = chunk.stream().map(this::getResourceId).collect(Collectors.toList());
+            Set<${idType}> found = findExistingIds(ids);
+            try {
+                ${repositoryVariable}.saveAll(chunk.stream().filter(${resourceVariable} -> found.contains(getResourceId(${resourceVariable}))).map(${mapperVariable}::${toEntityMethod}).collect(Collectors.toList()));
+                for (int i = 0; i < chunk.size(); i++) {
+                    results.add(new ${batchResultClass}(from + i, found.contains(ids.get(i)) ? 200 : 404, null));
+                }
+            } catch (RuntimeException e) {
+                for (int i = 0; i < chunk.size(); i++) {
+                    results.add(found.contains(ids.get(i)) ? saveOne(from + i, chunk.get(i), 200) : new ${batchResultClass}(from + i, 404, null));
+                }
+            }
+        }
+        return results;
+    }
+
+${batchAnnotations}    public List<${batchResultClass}> deleteAll(List<${idType}> ids) {
+        List<${batchResultClass}> results = new ArrayList<>();
+        for (int from = 0; from < ids.size(); from += BATCH_SIZE) {
+            List<${idType}> chunk = ids.subList(from, Math.min(from + BATCH_SIZE, ids.size()));
+            Set<${idType}> found = findExistingIds(chunk);
+            try {
+                ${repositoryVariable}.${deleteAllMethod}(chunk.stream().filter(found::contains).collect(Collectors.toList()));
+                for (int i = 0; i < chunk.size(); i++) {
+                    results.add(new ${batchResultClass}(from + i, found.contains(chunk.get(i)) ? 204 : 404, null));
+                }
+            } catch (RuntimeException e) {
+                for (int i = 0; i < chunk.size(); i++) {
+                    results.add(found.contains(chunk.get(i)) ? deleteOne(from + i, chunk.get(i)) : new ${batchResultClass}(from + i, 404, null));
+                }
+            }
+        }
+        return results;
+    }
+
+    private ${batchResultClass} deleteOne(int index, ${idType} id) {
+        try {
+            ${repositoryVariable}.deleteById(id);
+            return new ${batchResultClass}(index, 204, null);
+        } catch (RuntimeException e) {
+            return new ${batchResultClass}(index, 400, e.getMessage());
+        }
+    }
+
+    private Set<${idType}> findExistingIds(List<${idType}> ids) {
+        Set<${idType}> found = new HashSet<>();
+        for (${entityClass} ${entityVariable} : ${repositoryVariable}.findAllById(ids.stream().filter(Objects::nonNull).collect(Collectors.toList()))) {
+            found.add((${idType}) new DirectFieldAccessor(${entityVariable}).getPropertyValue("${idName}"));
+        }
+        return found;
+    }
+
+    private ${idType} getResourceId(${resourceClass} ${resourceVariable}) {
+        return (${idType}) new DirectFieldAccessor(${resourceVariable}).getPropertyValue("${idName}");
+    }
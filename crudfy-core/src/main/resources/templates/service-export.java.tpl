@@ -0,0 +1,13 @@
+
+${exportAnnotations}    public void export(OutputStream output) throws IOException {
+        try (Stream<${entityClass}> stream = ${repositoryVariable}.streamAllBy()) {
+            Iterator<${entityClass}> iterator = stream.iterator();
+            for (int written = 1; iterator.hasNext(); written++) {
+                ${entityClass} ${entityVariable} = iterator.next();
+                output.write(objectMapper.writeValueAsBytes(${mapperVariable}.${toResponseMethod}(${entityVariable})));
+                output.write('\n');
+${detachStatement}                if (written % EXPORT_CHUNK_SIZE == 0)
+                    output.flush();
+            }
+        }
+    }
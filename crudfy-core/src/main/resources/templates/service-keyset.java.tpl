@@ -0,0 +1,5 @@
+
+    public List<${responseClass}> findAllAfter(${cursorType} after, Pageable pageable) {
+        Pageable page = PageRequest.of(0, Math.min(pageable.getPageSize(), MAX_PAGE_SIZE), Sort.by("${cursorName}"));
+        return ${mapperVariable}.${toResponseListMethod}(${repositoryVariable}.${cursorQuery}(after, page));
+    }
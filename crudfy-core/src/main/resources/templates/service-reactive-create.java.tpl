@@ -0,0 +1,5 @@
+
+    public Mono<${responseClass}> create(${resourceClass} ${resourceVariable}) {
+        ${entityClass} ${entityVariable} = ${mapperVariable}.${toEntityMethod}(${resourceVariable});
+        return entityTemplate.insert(${entityVariable}).map(${mapperVariable}::${toResponseMethod});
+    }
@@ -0,0 +1,4 @@
+
+    public Flux<${responseClass}> export() {
+        return ${repositoryVariable}.findAll().limitRate(EXPORT_CHUNK_SIZE).map(${mapperVariable}::${toResponseMethod});
+    }
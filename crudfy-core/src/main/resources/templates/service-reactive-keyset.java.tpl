@@ -0,0 +1,5 @@
+
+    public Flux<${responseClass}> findAllAfter(${cursorType} after, Pageable pageable) {
+        Pageable page = PageRequest.of(0, Math.min(pageable.getPageSize(), MAX_PAGE_SIZE), Sort.by("${cursorName}"));
+        return ${repositoryVariable}.${cursorQuery}(after, page).map(${mapperVariable}::${toResponseMethod});
+    }
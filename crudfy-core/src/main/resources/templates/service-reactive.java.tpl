@@ -0,0 +1,31 @@
+package ${package};
+
+${imports}@Service()
+public class ${serviceClass} {
+
+    private static final int MAX_PAGE_SIZE = ${maxPageSize};
+${exportConstant}
+    @Autowired()
+    private ${repositoryClass} ${repositoryVariable};
+
+    @Autowired()
+    private ${mapperClass} ${mapperVariable};
+${entityTemplateField}
+    public Mono<${responseClass}> find(${idType} id) {
+        return ${repositoryVariable}.findById(id).map(${mapperVariable}::${toResponseMethod});
+    }
+
+    public Flux<${responseClass}> findAll(Pageable pageable) {
+        Pageable page = PageRequest.of(pageable.getPageNumber(), Math.min(pageable.getPageSize(), MAX_PAGE_SIZE), pageable.getSort());
+        return ${repositoryVariable}.findAllBy(page).map(${mapperVariable}::${toResponseMethod});
+    }
+${findAllAfterMethod}${exportMethod}${createMethod}
+    public Mono<${responseClass}> save(${resourceClass} ${resourceVariable}) {
+        ${entityClass} ${entityVariable} = ${mapperVariable}.${toEntityMethod}(${resourceVariable});
+        return ${repositoryVariable}.save(${entityVariable}).map(${mapperVariable}::${toResponseMethod});
+    }
+
+    public Mono<Void> delete(${idType} id) {
+        return ${repositoryVariable}.deleteById(id);
+    }
+}
@@ -0,0 +1,32 @@
+package ${package};
+
+${imports}@Service()
+public class ${serviceClass} {
+
+    private static final int MAX_PAGE_SIZE = ${maxPageSize};
+${exportConstant}${batchConstant}
+    @Autowired()
+    private ${repositoryClass} ${repositoryVariable};
+
+    @Autowired()
+    private ${mapperClass} ${mapperVariable};
+${exportFields}
+${findAnnotations}    public Optional<${responseClass}> find(${idType} id) {
+        Optional<${entityClass}> ${entityVariable} = ${repositoryVariable}.findById(id);
+        return ${entityVariable}.isPresent() ? Optional.of(${mapperVariable}.${toResponseMethod}(${entityVariable}.get())) : Optional.empty();
+    }
+
+    public List<${responseClass}> findAll(Pageable pageable) {
+        Pageable page = PageRequest.of(pageable.getPageNumber(), Math.min(pageable.getPageSize(), MAX_PAGE_SIZE), pageable.getSort());
+        return ${mapperVariable}.${toResponseListMethod}(${repositoryVariable}.findAll(page).getContent());
+    }
+${findAllAfterMethod}${exportMethod}
+${saveAnnotations}    public ${responseClass} save(${resourceClass} ${resourceVariable}) {
+        ${entityClass} ${entityVariable} = ${mapperVariable}.${toEntityMethod}(${resourceVariable});
+        return ${mapperVariable}.${toResponseMethod}(${repositoryVariable}.save(${entityVariable}));
+    }
+
+${deleteAnnotations}    public void delete(${idType} id) {
+        ${repositoryVariable}.deleteById(id);
+    }
+${batchMethods}}
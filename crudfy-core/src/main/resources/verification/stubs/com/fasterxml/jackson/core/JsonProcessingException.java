@@ -0,0 +1,6 @@
+package com.fasterxml.jackson.core;
+
+import java.io.IOException;
+
+public class JsonProcessingException extends IOException {
+}
@@ -0,0 +1,10 @@
+package com.fasterxml.jackson.databind;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+
+public class ObjectMapper {
+
+    public byte[] writeValueAsBytes(Object value) throws JsonProcessingException {
+        return new byte[0];
+    }
+}
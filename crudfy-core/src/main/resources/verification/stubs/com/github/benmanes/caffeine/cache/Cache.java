@@ -0,0 +1,4 @@
+package com.github.benmanes.caffeine.cache;
+
+public interface Cache<K, V> {
+}
@@ -0,0 +1,22 @@
+package com.github.benmanes.caffeine.cache;
+
+import java.time.Duration;
+
+public final class Caffeine<K, V> {
+
+    public static Caffeine<Object, Object> newBuilder() {
+        return null;
+    }
+
+    public Caffeine<K, V> maximumSize(long maximumSize) {
+        return this;
+    }
+
+    public Caffeine<K, V> expireAfterWrite(Duration duration) {
+        return this;
+    }
+
+    public <K1 extends K, V1 extends V> Cache<K1, V1> build() {
+        return null;
+    }
+}
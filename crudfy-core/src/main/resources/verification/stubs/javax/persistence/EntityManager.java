@@ -0,0 +1,5 @@
+package javax.persistence;
+
+public interface EntityManager {
+    void detach(Object entity);
+}
@@ -0,0 +1,4 @@
+package javax.persistence;
+
+public @interface Id {
+}
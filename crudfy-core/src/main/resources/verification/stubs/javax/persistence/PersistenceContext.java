@@ -0,0 +1,5 @@
+package javax.persistence;
+
+public @interface PersistenceContext {
+    String unitName() default "";
+}
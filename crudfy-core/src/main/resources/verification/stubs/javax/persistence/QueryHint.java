@@ -0,0 +1,6 @@
+package javax.persistence;
+
+public @interface QueryHint {
+    String name();
+    String value();
+}
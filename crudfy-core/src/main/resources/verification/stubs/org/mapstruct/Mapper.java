@@ -0,0 +1,5 @@
+package org.mapstruct;
+
+public @interface Mapper {
+    String componentModel() default "default";
+}
@@ -0,0 +1,11 @@
+package org.springframework.beans;
+
+public class DirectFieldAccessor {
+
+    public DirectFieldAccessor(Object object) {
+    }
+
+    public Object getPropertyValue(String propertyName) {
+        return null;
+    }
+}
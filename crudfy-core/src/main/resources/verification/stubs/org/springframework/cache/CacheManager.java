@@ -0,0 +1,4 @@
+package org.springframework.cache;
+
+public interface CacheManager {
+}
@@ -0,0 +1,7 @@
+package org.springframework.cache.annotation;
+
+public @interface CacheEvict {
+    String[] value() default {};
+    String key() default "";
+    boolean allEntries() default false;
+}
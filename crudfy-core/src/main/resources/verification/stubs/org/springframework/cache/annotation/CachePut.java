@@ -0,0 +1,6 @@
+package org.springframework.cache.annotation;
+
+public @interface CachePut {
+    String[] value() default {};
+    String key() default "";
+}
@@ -0,0 +1,4 @@
+package org.springframework.cache.annotation;
+
+public @interface EnableCaching {
+}
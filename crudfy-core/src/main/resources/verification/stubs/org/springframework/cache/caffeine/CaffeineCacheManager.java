@@ -0,0 +1,15 @@
+package org.springframework.cache.caffeine;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import org.springframework.cache.CacheManager;
+
+import java.util.Collection;
+
+public class CaffeineCacheManager implements CacheManager {
+
+    public void setCacheNames(Collection<String> cacheNames) {
+    }
+
+    public void registerCustomCache(String name, Cache<Object, Object> cache) {
+    }
+}
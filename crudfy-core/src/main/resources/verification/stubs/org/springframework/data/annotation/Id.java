@@ -0,0 +1,4 @@
+package org.springframework.data.annotation;
+
+public @interface Id {
+}
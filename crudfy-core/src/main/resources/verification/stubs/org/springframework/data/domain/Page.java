@@ -0,0 +1,6 @@
+package org.springframework.data.domain;
+
+public interface Page<T> extends Slice<T> {
+    int getTotalPages();
+    long getTotalElements();
+}
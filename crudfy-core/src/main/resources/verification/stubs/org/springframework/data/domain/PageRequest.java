@@ -0,0 +1,28 @@
+package org.springframework.data.domain;
+
+public class PageRequest implements Pageable {
+
+    public static PageRequest of(int page, int size) {
+        return null;
+    }
+
+    public static PageRequest of(int page, int size, Sort sort) {
+        return null;
+    }
+
+    public int getPageNumber() {
+        return 0;
+    }
+
+    public int getPageSize() {
+        return 0;
+    }
+
+    public long getOffset() {
+        return 0;
+    }
+
+    public Sort getSort() {
+        return null;
+    }
+}
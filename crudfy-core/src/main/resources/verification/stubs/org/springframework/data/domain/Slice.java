@@ -0,0 +1,11 @@
+package org.springframework.data.domain;
+
+import java.util.List;
+
+public interface Slice<T> extends Iterable<T> {
+    int getNumber();
+    int getSize();
+    List<T> getContent();
+    boolean hasNext();
+    Pageable nextPageable();
+}
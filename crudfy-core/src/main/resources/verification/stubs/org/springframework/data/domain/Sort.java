@@ -0,0 +1,20 @@
+package org.springframework.data.domain;
+
+public class Sort {
+
+    public static Sort by(String... properties) {
+        return null;
+    }
+
+    public static Sort unsorted() {
+        return null;
+    }
+
+    public Sort ascending() {
+        return this;
+    }
+
+    public Sort descending() {
+        return this;
+    }
+}
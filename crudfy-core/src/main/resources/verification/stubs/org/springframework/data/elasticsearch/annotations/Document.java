@@ -0,0 +1,5 @@
+package org.springframework.data.elasticsearch.annotations;
+
+public @interface Document {
+    String indexName();
+}
@@ -0,0 +1,6 @@
+package org.springframework.data.elasticsearch.repository;
+
+import org.springframework.data.repository.PagingAndSortingRepository;
+
+public interface ElasticsearchRepository<T, ID> extends PagingAndSortingRepository<T, ID> {
+}
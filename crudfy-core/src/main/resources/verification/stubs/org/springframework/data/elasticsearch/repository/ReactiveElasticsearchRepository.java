@@ -0,0 +1,6 @@
+package org.springframework.data.elasticsearch.repository;
+
+import org.springframework.data.repository.reactive.ReactiveSortingRepository;
+
+public interface ReactiveElasticsearchRepository<T, ID> extends ReactiveSortingRepository<T, ID> {
+}
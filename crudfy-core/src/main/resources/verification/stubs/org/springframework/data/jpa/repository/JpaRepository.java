@@ -0,0 +1,7 @@
+package org.springframework.data.jpa.repository;
+
+import org.springframework.data.repository.PagingAndSortingRepository;
+
+public interface JpaRepository<T, ID> extends PagingAndSortingRepository<T, ID> {
+    void deleteAllByIdInBatch(Iterable<ID> ids);
+}
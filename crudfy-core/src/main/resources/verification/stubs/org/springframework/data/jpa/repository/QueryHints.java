@@ -0,0 +1,7 @@
+package org.springframework.data.jpa.repository;
+
+import javax.persistence.QueryHint;
+
+public @interface QueryHints {
+    QueryHint[] value() default {};
+}
@@ -0,0 +1,6 @@
+package org.springframework.data.mongodb.core.mapping;
+
+public @interface Document {
+    String value() default "";
+    String collection() default "";
+}
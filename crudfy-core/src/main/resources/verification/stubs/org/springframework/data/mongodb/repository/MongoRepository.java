@@ -0,0 +1,13 @@
+package org.springframework.data.mongodb.repository;
+
+import org.springframework.data.domain.Sort;
+import org.springframework.data.repository.PagingAndSortingRepository;
+
+import java.util.List;
+
+public interface MongoRepository<T, ID> extends PagingAndSortingRepository<T, ID> {
+    @Override
+    List<T> findAll();
+    @Override
+    List<T> findAll(Sort sort);
+}
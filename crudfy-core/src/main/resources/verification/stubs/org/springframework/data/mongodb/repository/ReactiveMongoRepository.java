@@ -0,0 +1,6 @@
+package org.springframework.data.mongodb.repository;
+
+import org.springframework.data.repository.reactive.ReactiveSortingRepository;
+
+public interface ReactiveMongoRepository<T, ID> extends ReactiveSortingRepository<T, ID> {
+}
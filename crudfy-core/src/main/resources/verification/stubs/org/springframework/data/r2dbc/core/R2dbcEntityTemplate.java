@@ -0,0 +1,10 @@
+package org.springframework.data.r2dbc.core;
+
+import reactor.core.publisher.Mono;
+
+public class R2dbcEntityTemplate {
+
+    public <T> Mono<T> insert(T entity) {
+        return null;
+    }
+}
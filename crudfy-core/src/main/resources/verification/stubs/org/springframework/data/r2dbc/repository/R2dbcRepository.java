@@ -0,0 +1,6 @@
+package org.springframework.data.r2dbc.repository;
+
+import org.springframework.data.repository.reactive.ReactiveSortingRepository;
+
+public interface R2dbcRepository<T, ID> extends ReactiveSortingRepository<T, ID> {
+}
@@ -0,0 +1,17 @@
+package org.springframework.data.repository.reactive;
+
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+public interface ReactiveCrudRepository<T, ID> {
+    <S extends T> Mono<S> save(S entity);
+    <S extends T> Flux<S> saveAll(Iterable<S> entities);
+    Mono<T> findById(ID id);
+    Mono<Boolean> existsById(ID id);
+    Flux<T> findAll();
+    Flux<T> findAllById(Iterable<ID> ids);
+    Mono<Long> count();
+    Mono<Void> deleteById(ID id);
+    Mono<Void> delete(T entity);
+    Mono<Void> deleteAll();
+}
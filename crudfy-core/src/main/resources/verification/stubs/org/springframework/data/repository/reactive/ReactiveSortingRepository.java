@@ -0,0 +1,8 @@
+package org.springframework.data.repository.reactive;
+
+import org.springframework.data.domain.Sort;
+import reactor.core.publisher.Flux;
+
+public interface ReactiveSortingRepository<T, ID> extends ReactiveCrudRepository<T, ID> {
+    Flux<T> findAll(Sort sort);
+}
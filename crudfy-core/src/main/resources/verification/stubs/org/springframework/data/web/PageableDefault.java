@@ -0,0 +1,8 @@
+package org.springframework.data.web;
+
+public @interface PageableDefault {
+    int value() default 10;
+    int size() default 10;
+    int page() default 0;
+    String[] sort() default {};
+}
@@ -0,0 +1,6 @@
+package org.springframework.data.web;
+
+import org.springframework.web.reactive.result.method.HandlerMethodArgumentResolver;
+
+public class ReactivePageableHandlerMethodArgumentResolver implements HandlerMethodArgumentResolver {
+}
@@ -0,0 +1,14 @@
+package org.springframework.http;
+
+public enum HttpStatus {
+    OK,
+    CREATED,
+    ACCEPTED,
+    NO_CONTENT,
+    BAD_REQUEST,
+    NOT_FOUND;
+
+    public int value() {
+        return 0;
+    }
+}
@@ -0,0 +1,7 @@
+package org.springframework.http;
+
+public class MediaType {
+
+    public static final MediaType APPLICATION_NDJSON = new MediaType();
+    public static final String APPLICATION_NDJSON_VALUE = "application/x-ndjson";
+}
@@ -0,0 +1,23 @@
+package org.springframework.http;
+
+public class ResponseEntity<T> {
+
+    public ResponseEntity(HttpStatus status) {
+    }
+
+    public ResponseEntity(T body, HttpStatus status) {
+    }
+
+    public static BodyBuilder ok() {
+        return null;
+    }
+
+    public static <T> ResponseEntity<T> ok(T body) {
+        return null;
+    }
+
+    public interface BodyBuilder {
+        BodyBuilder contentType(MediaType contentType);
+        <T> ResponseEntity<T> body(T body);
+    }
+}
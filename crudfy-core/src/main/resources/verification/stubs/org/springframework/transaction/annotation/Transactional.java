@@ -0,0 +1,5 @@
+package org.springframework.transaction.annotation;
+
+public @interface Transactional {
+    boolean readOnly() default false;
+}
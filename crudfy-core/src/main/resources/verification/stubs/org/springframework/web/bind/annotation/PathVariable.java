@@ -0,0 +1,6 @@
+package org.springframework.web.bind.annotation;
+
+public @interface PathVariable {
+    String value() default "";
+    boolean required() default true;
+}
@@ -0,0 +1,9 @@
+package org.springframework.web.reactive.config;
+
+import org.springframework.web.reactive.result.method.annotation.ArgumentResolverConfigurer;
+
+public interface WebFluxConfigurer {
+
+    default void configureArgumentResolvers(ArgumentResolverConfigurer configurer) {
+    }
+}
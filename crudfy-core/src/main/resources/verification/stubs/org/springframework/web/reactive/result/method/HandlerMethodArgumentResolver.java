@@ -0,0 +1,4 @@
+package org.springframework.web.reactive.result.method;
+
+public interface HandlerMethodArgumentResolver {
+}
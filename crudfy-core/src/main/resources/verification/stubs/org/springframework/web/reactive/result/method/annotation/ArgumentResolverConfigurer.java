@@ -0,0 +1,9 @@
+package org.springframework.web.reactive.result.method.annotation;
+
+import org.springframework.web.reactive.result.method.HandlerMethodArgumentResolver;
+
+public class ArgumentResolverConfigurer {
+
+    public void addCustomResolver(HandlerMethodArgumentResolver... resolvers) {
+    }
+}
@@ -0,0 +1,10 @@
+package reactor.core.publisher;
+
+import java.util.function.Function;
+
+public abstract class Flux<T> {
+
+    public abstract <V> Flux<V> map(Function<? super T, ? extends V> mapper);
+
+    public abstract Flux<T> limitRate(int prefetchRate);
+}
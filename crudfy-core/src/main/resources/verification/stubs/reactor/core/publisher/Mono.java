@@ -0,0 +1,18 @@
+package reactor.core.publisher;
+
+import java.util.function.Function;
+
+public abstract class Mono<T> {
+
+    public static <T> Mono<T> just(T data) {
+        return null;
+    }
+
+    public abstract <R> Mono<R> map(Function<? super T, ? extends R> mapper);
+
+    public abstract <R> Mono<R> flatMap(Function<? super T, ? extends Mono<? extends R>> transformer);
+
+    public abstract Mono<T> defaultIfEmpty(T defaultV);
+
+    public abstract <V> Mono<V> then(Mono<V> other);
+}
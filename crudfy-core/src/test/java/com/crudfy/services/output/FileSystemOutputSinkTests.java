@@ -0,0 +1,86 @@
+package com.crudfy.services.output;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class FileSystemOutputSinkTests {
+
+	@TempDir
+	Path root;
+
+	@Test
+	void regenerationOnlyWritesChangedFilesAndRemovesDroppedOnes() throws IOException {
+		FileSystemOutputSink first = generate("first", "second", "third");
+		assertEquals(3, first.getFilesWritten());
+		assertTrue(Files.exists(root.resolve(FileSystemOutputSink.MANIFEST_FILE)));
+
+		Path unchanged = root.resolve("a/First.java");
+		long lastModified = Files.getLastModifiedTime(unchanged).toMillis();
+
+		FileSystemOutputSink second = generate("first", "changed", null);
+		assertEquals(1, second.getFilesWritten());
+		assertEquals(1, second.getFilesSkipped());
+		assertEquals(1, second.getFilesDeleted());
+		assertEquals(lastModified, Files.getLastModifiedTime(unchanged).toMillis());
+		assertEquals("changed", Files.readString(root.resolve("a/Second.java")));
+		assertFalse(Files.exists(root.resolve("b")));
+	}
+
+	@Test
+	void abortedGenerationLeavesProjectUntouched() throws IOException {
+		generate("first", "second", "third");
+
+		FileSystemOutputSink sink = new FileSystemOutputSink(root.toString());
+		sink.write(root.resolve("a/First.java").toString(), writer -> writer.write("changed"));
+		sink.abort();
+
+		assertEquals("first", Files.readString(root.resolve("a/First.java")));
+		try (Stream<Path> files = Files.list(root)) {
+			assertTrue(files.noneMatch(file -> file.getFileName().toString().startsWith(FileSystemOutputSink.STAGING_PREFIX)));
+		}
+	}
+
+	@Test
+	void failedFinishRestoresPreviousProject() throws IOException {
+		generate("first", "second", "third");
+		String manifest = Files.readString(root.resolve(FileSystemOutputSink.MANIFEST_FILE));
+		//A file where the new generation needs a directory, so its move fails after a/First.java was replaced
+		Files.writeString(root.resolve("c"), "user file");
+
+		FileSystemOutputSink sink = new FileSystemOutputSink(root.toString());
+		sink.write(root.resolve("a/First.java").toString(), writer -> writer.write("changed"));
+		sink.write(root.resolve("c/Fourth.java").toString(), writer -> writer.write("fourth"));
+		assertThrows(IOException.class, sink::finish);
+		sink.abort();
+
+		assertEquals("first", Files.readString(root.resolve("a/First.java")));
+		assertEquals("third", Files.readString(root.resolve("b/Third.java")));
+		assertEquals(manifest, Files.readString(root.resolve(FileSystemOutputSink.MANIFEST_FILE)));
+		try (Stream<Path> files = Files.list(root)) {
+			assertTrue(files.noneMatch(file -> file.getFileName().toString().startsWith(FileSystemOutputSink.STAGING_PREFIX)));
+		}
+	}
+
+	private FileSystemOutputSink generate(String first, String second, String third) throws IOException {
+		FileSystemOutputSink sink = new FileSystemOutputSink(root.toString());
+		sink.createDirectories(root.resolve("a").toString());
+		sink.write(root.resolve("a/First.java").toString(), writer -> writer.write(first));
+		sink.write(root.resolve("a/Second.java").toString(), writer -> writer.write(second));
+		if (third != null) {
+			sink.createDirectories(root.resolve("b").toString());
+			sink.write(root.resolve("b/Third.java").toString(), writer -> writer.write(third));
+		}
+		sink.finish();
+		return sink;
+	}
+}
@@ -0,0 +1,43 @@
+package com.crudfy.services.utils;
+
+import com.github.javaparser.StaticJavaParser;
+import com.github.javaparser.ast.type.Type;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+
+class AstCacheTests {
+
+	private final List<String> parsed = new ArrayList<>();
+	private final AstCache<Type> cache = new AstCache<>(2, type -> {
+		parsed.add(type);
+		return StaticJavaParser.parseType(type);
+	});
+
+	@Test
+	void hitReturnsAClone() {
+		Type first = cache.get("List<String>");
+		Type second = cache.get("List<String>");
+
+		assertEquals(List.of("List<String>"), parsed);
+		assertNotSame(first, second);
+		assertEquals(first, second);
+	}
+
+	@Test
+	void evictsTheLeastRecentlyUsedAtCapacity() {
+		cache.get("String");
+		cache.get("Long");
+		//String becomes the most recently used, so Long is evicted by Integer
+		cache.get("String");
+		cache.get("Integer");
+		cache.get("String");
+		cache.get("Long");
+
+		assertEquals(List.of("String", "Long", "Integer", "Long"), parsed);
+	}
+}
@@ -0,0 +1,37 @@
+package com.crudfy.services.utils;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class TypeDescriptorTests {
+
+	@Test
+	void parsesNestedGenerics() {
+		TypeDescriptor descriptor = TypeDescriptor.parse("Map<String,List< LocalDate >>");
+
+		assertEquals("Map", descriptor.getName());
+		assertEquals(2, descriptor.getArguments().size());
+		assertEquals("List", descriptor.getArguments().get(1).getName());
+		assertEquals(List.of("Map", "String", "List", "LocalDate"), descriptor.getNames());
+		assertEquals("Map<String, List<LocalDate>>", descriptor.toString());
+	}
+
+	@Test
+	void rendersWithRenamedTypes() {
+		TypeDescriptor descriptor = TypeDescriptor.parse("Map<String, List<Address>>[]");
+
+		assertEquals("Map<String, List<AddressResponse>>[]",
+				descriptor.render(type -> type.equals("Address") ? "AddressResponse" : type));
+	}
+
+	@Test
+	void rejectsMalformedTypes() {
+		assertThrows(IllegalArgumentException.class, () -> TypeDescriptor.parse("List<String"));
+		assertThrows(IllegalArgumentException.class, () -> TypeDescriptor.parse("Map<String,>"));
+		assertThrows(IllegalArgumentException.class, () -> TypeDescriptor.parse("String>"));
+	}
+}
@@ -0,0 +1,125 @@
+package com.crudfy.maven;
+
+import com.crudfy.domains.exceptions.ResourceValidationException;
+import com.crudfy.domains.resources.ComponentResource;
+import com.crudfy.domains.responses.GenerationReport;
+import com.crudfy.services.CrudService;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.module.paramnames.ParameterNamesModule;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.apache.maven.plugin.AbstractMojo;
+import org.apache.maven.plugin.MojoExecutionException;
+import org.apache.maven.plugin.MojoFailureException;
+import org.apache.maven.plugins.annotations.LifecyclePhase;
+import org.apache.maven.plugins.annotations.Mojo;
+import org.apache.maven.plugins.annotations.Parameter;
+import org.apache.maven.project.MavenProject;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+import org.springframework.core.env.MapPropertySource;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Generates the project of a ComponentResource spec at build time, without the API. The generation is skipped while
+ * the spec, the generator version and the properties are the same as in the last generation.
+ */
+@Mojo(name = "generate", defaultPhase = LifecyclePhase.GENERATE_SOURCES, threadSafe = true)
+public class GenerateMojo extends AbstractMojo {
+
+    private static final String STAMP = ".crudfy-stamp";
+
+    @Parameter(property = "crudfy.spec", defaultValue = "${project.basedir}/src/main/crudfy/spec.json", required = true)
+    private File spec;
+
+    //The path of the spec is ignored, the project is always generated here
+    @Parameter(property = "crudfy.outputDirectory", defaultValue = "${project.build.directory}/generated-sources/crudfy", required = true)
+    private File outputDirectory;
+
+    //Generator properties, the same as in the application.properties of the API
+    @Parameter
+    private Map<String, String> properties = new HashMap<>();
+
+    @Parameter(property = "crudfy.addCompileSourceRoot", defaultValue = "true")
+    private boolean addCompileSourceRoot;
+
+    @Parameter(property = "crudfy.force", defaultValue = "false")
+    private boolean force;
+
+    @Parameter(property = "crudfy.skip", defaultValue = "false")
+    private boolean skip;
+
+    @Parameter(defaultValue = "${plugin.version}", readonly = true)
+    private String generatorVersion;
+
+    @Parameter(defaultValue = "${project}", readonly = true, required = true)
+    private MavenProject project;
+
+    @Override
+    public void execute() throws MojoExecutionException, MojoFailureException {
+        if (skip) {
+            getLog().info("Geração ignorada (crudfy.skip)");
+            return;
+        }
+
+        byte[] content;
+        try {
+            content = Files.readAllBytes(spec.toPath());
+        } catch (IOException e) {
+            throw new MojoExecutionException(String.format("Erro na leitura da especificação %s", spec), e);
+        }
+
+        Path stampFile = outputDirectory.toPath().resolve(STAMP);
+        String stamp = GenerationStamp.of(content, generatorVersion, properties);
+        try {
+            if (!force && GenerationStamp.matches(stampFile, stamp)) {
+                getLog().info(String.format("Projeto em %s atualizado, a especificação e o gerador não mudaram", outputDirectory));
+            } else {
+                generate(content);
+                GenerationStamp.write(stampFile, stamp);
+            }
+        } catch (IOException e) {
+            throw new MojoExecutionException(String.format("Erro na leitura ou escrita de %s", stampFile), e);
+        }
+
+        if (addCompileSourceRoot) {
+            project.addCompileSourceRoot(new File(outputDirectory, "src/main/java").getAbsolutePath());
+        }
+    }
+
+    private void generate(byte[] content) throws MojoExecutionException, MojoFailureException {
+        ObjectMapper mapper = new ObjectMapper()
+                .registerModule(new ParameterNamesModule())
+                .configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
+        Map<String, Object> environment = new HashMap<>(properties);
+        //A build generates a single project, the archive cache would only cost memory
+        environment.putIfAbsent("crudfy.cache.type", "none");
+
+        try (AnnotationConfigApplicationContext context = new AnnotationConfigApplicationContext()) {
+            context.setClassLoader(getClass().getClassLoader());
+            context.getEnvironment().getPropertySources().addFirst(new MapPropertySource("crudfy-maven-plugin", environment));
+            context.registerBean(ObjectMapper.class, () -> mapper);
+            context.registerBean(MeterRegistry.class, SimpleMeterRegistry::new);
+            context.scan("com.crudfy.services");
+            context.refresh();
+
+            ComponentResource resource = mapper.readValue(content, ComponentResource.class);
+            resource.setPath(outputDirectory.getAbsolutePath());
+            GenerationReport report = context.getBean(CrudService.class).createProject(resource);
+            getLog().info(String.format("%s (%s escritos, %s inalterados, %s removidos)", report.getMessage(),
+                    report.getFilesWritten(), report.getFilesSkipped(), report.getFilesDeleted()));
+        } catch (ResourceValidationException e) {
+            throw new MojoFailureException(String.format("Especificação inválida %s: %s", spec, e.getMessage()), e);
+        } catch (IOException e) {
+            throw new MojoExecutionException(String.format("Erro na leitura da especificação %s", spec), e);
+        } catch (RuntimeException e) {
+            throw new MojoExecutionException("Ocorreu um erro inesperado ao criar o projeto", e);
+        }
+    }
+}
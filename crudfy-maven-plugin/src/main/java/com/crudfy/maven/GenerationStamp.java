@@ -0,0 +1,44 @@
+package com.crudfy.maven;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * SHA-256 of everything a build generation depends on: the spec file, the generator version and the generator
+ * properties. The stamp of the last generation is kept next to the generated files.
+ */
+final class GenerationStamp {
+
+    private GenerationStamp() {
+    }
+
+    static String of(byte[] spec, String generatorVersion, Map<String, String> properties) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            digest.update(String.format("%s|%s|", generatorVersion, new TreeMap<>(properties)).getBytes(StandardCharsets.UTF_8));
+            digest.update(spec);
+            StringBuilder stamp = new StringBuilder();
+            for (byte b : digest.digest()) {
+                stamp.append(String.format("%02x", b));
+            }
+            return stamp.toString();
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    static boolean matches(Path file, String stamp) throws IOException {
+        return Files.isRegularFile(file) && Files.readString(file, StandardCharsets.UTF_8).trim().equals(stamp);
+    }
+
+    static void write(Path file, String stamp) throws IOException {
+        Files.createDirectories(file.getParent());
+        Files.writeString(file, stamp, StandardCharsets.UTF_8);
+    }
+}
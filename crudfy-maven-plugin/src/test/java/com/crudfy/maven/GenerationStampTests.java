@@ -0,0 +1,42 @@
+package com.crudfy.maven;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class GenerationStampTests {
+
+	@TempDir
+	Path directory;
+
+	@Test
+	void stampChangesWithSpecVersionAndProperties() {
+		byte[] spec = "{\"projectName\":\"person\"}".getBytes(StandardCharsets.UTF_8);
+		String stamp = GenerationStamp.of(spec, "1.0", Map.of("a", "1", "b", "2"));
+
+		assertEquals(stamp, GenerationStamp.of(spec.clone(), "1.0", Map.of("b", "2", "a", "1")));
+		assertNotEquals(stamp, GenerationStamp.of("{\"projectName\":\"order\"}".getBytes(StandardCharsets.UTF_8), "1.0", Map.of("a", "1", "b", "2")));
+		assertNotEquals(stamp, GenerationStamp.of(spec, "1.1", Map.of("a", "1", "b", "2")));
+		assertNotEquals(stamp, GenerationStamp.of(spec, "1.0", Map.of("a", "1")));
+	}
+
+	@Test
+	void writtenStampMatchesOnlyTheSameStamp() throws IOException {
+		Path file = directory.resolve("generated/.crudfy-stamp");
+		assertFalse(GenerationStamp.matches(file, "abc"));
+
+		GenerationStamp.write(file, "abc");
+
+		assertTrue(GenerationStamp.matches(file, "abc"));
+		assertFalse(GenerationStamp.matches(file, "abd"));
+	}
+}
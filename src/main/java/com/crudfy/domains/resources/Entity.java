@@ -1,15 +0,0 @@
-package com.crudfy.domains.resources;
-
-import lombok.AllArgsConstructor;
-import lombok.Data;
-import lombok.NoArgsConstructor;
-
-import java.util.List;
-
-@Data
-@NoArgsConstructor
-@AllArgsConstructor
-public class Entity {
-    private String name;
-    private List<Field> fields;
-}